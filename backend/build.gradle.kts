@@ -4,6 +4,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -25,25 +26,78 @@ repositories {
     mavenCentral()
 }
 
+// 부하 테스트 클라이언트 (src/loadTest/java), 애플리케이션 코드와 분리
+val loadTest: SourceSet by sourceSets.creating
+
+val loadTestImplementation: Configuration by configurations.getting
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     runtimeOnly("com.h2database:h2")
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testImplementation("net.ttddyy:datasource-proxy:1.10")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
     testImplementation("org.springframework.security:spring-security-test")
+    loadTestImplementation("com.fasterxml.jackson.core:jackson-databind")
+    jmh("org.springframework:spring-test") // MockHttpServletRequest
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 마이크로 벤치마크: ./gradlew jmh (src/jmh/java)
+// 결과는 릴리스 간 비교를 위해 JSON 으로 남긴다 (build/reports/jmh/results.json)
+// 일부만 실행: ./gradlew jmh -PjmhIncludes=RateLimit
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+// 부하 테스트 (서버를 먼저 띄운 뒤 실행, 옵션은 -P 로 전달)
+// loadTest: 단일 계정으로 조회 API 별 처리량/p99 (-Plabel=platform|virtual, -Pconcurrency)
+// loadTestMix: datagen 회원들로 대시보드/검색/쓰기 혼합 (-Pusers, -Pmembers, -Pseed, -PthinkTimeMillis)
+// 공통: -PbaseUrl, -PwarmupSeconds, -PdurationSeconds
+val loadTestOptions = listOf(
+    "baseUrl", "email", "password", "concurrency", "users", "members", "seed",
+    "thinkTimeMillis", "warmupSeconds", "durationSeconds", "label"
+)
+
+fun JavaExec.configureLoadTest(main: String) {
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass = main
+    loadTestOptions.forEach { key ->
+        project.findProperty(key)?.let { systemProperty(key, it) }
+    }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "실행 중인 서버의 자산/거래 조회 API 처리량과 p99 지연 시간을 측정합니다."
+    configureLoadTest("com.back.loadtest.LoadTestRunner")
+}
+
+tasks.register<JavaExec>("loadTestMix") {
+    description = "datagen 데이터로 대시보드/검색/쓰기 요청을 섞어 처리량과 지연 시간 분위를 측정합니다."
+    configureLoadTest("com.back.loadtest.MixedWorkloadRunner")
+}
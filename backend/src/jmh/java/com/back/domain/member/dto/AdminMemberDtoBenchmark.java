@@ -0,0 +1,51 @@
+package com.back.domain.member.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 관리자 회원 목록 응답의 개인정보 마스킹 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdminMemberDtoBenchmark {
+
+    private static final int MEMBERS = 100;
+
+    private List<MemberResponseDto> members;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        members = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new MemberResponseDto(i, "user" + i + "@user.com", "유저" + i,
+                    "010-" + (1000 + i) + "-5678", "USER", true, now, now));
+        }
+    }
+
+    @Benchmark
+    public String maskEmail() {
+        return AdminMemberDto.maskEmail("user1@user.com");
+    }
+
+    @Benchmark
+    public String maskName() {
+        return AdminMemberDto.maskName("김철수");
+    }
+
+    @Benchmark
+    public String maskPhone() {
+        return AdminMemberDto.maskPhone("010-1234-5678");
+    }
+
+    // 목록 한 페이지(100명) 변환
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<AdminMemberDto> convertPage() {
+        return members.stream().map(AdminMemberDto::from).toList();
+    }
+}
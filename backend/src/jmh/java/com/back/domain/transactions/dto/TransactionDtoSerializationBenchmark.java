@@ -0,0 +1,55 @@
+package com.back.domain.transactions.dto;
+
+import com.back.global.rsData.RsData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 거래 목록 응답 RsData<List<TransactionDto>> 의 JSON 직렬화 비용
+// ObjectMapper 는 스프링 MVC 와 같은 방식(Jackson2ObjectMapperBuilder)으로 만든다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionDtoSerializationBenchmark {
+
+    @Param({"20", "500"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private RsData<List<TransactionDto>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(RsData.class, objectMapper.getTypeFactory()
+                        .constructCollectionType(List.class, TransactionDto.class)));
+
+        LocalDateTime date = LocalDateTime.of(2025, 7, 1, 9, 0);
+        List<TransactionDto> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionDto(i, 1, i % 2 == 0 ? "ADD" : "REMOVE", 10_000L + i,
+                    "거래 메모 " + i, date.plusHours(i), date, date));
+        }
+        response = new RsData<>("200-1", "자산 거래 목록을 조회했습니다.", transactions);
+    }
+
+    // MVC 와 같이 런타임 타입으로 직렬화
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 타입을 미리 고정한 ObjectWriter 재사용
+    @Benchmark
+    public byte[] typedWriter() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.back.global.security.jwt;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 의 요청당 토큰 추출 비용 (Authorization 헤더 / accessToken 쿠키 / 토큰 없음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest anonymousRequest;
+
+    @Setup
+    public void setUp() {
+        String token = new JwtUtil(JwtUtilBenchmark.properties()).generateToken("user1@user.com", 4, "USER");
+
+        headerRequest = new MockHttpServletRequest("GET", "/api/v1/assets");
+        headerRequest.addHeader("Authorization", "Bearer " + token);
+
+        cookieRequest = new MockHttpServletRequest("GET", "/api/v1/assets");
+        cookieRequest.setCookies(new Cookie("JSESSIONID", "abc"), new Cookie("accessToken", token));
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/v1/notices");
+    }
+
+    @Benchmark
+    public String fromHeader() {
+        return JwtAuthenticationFilter.getTokenFromRequest(headerRequest);
+    }
+
+    @Benchmark
+    public String fromCookie() {
+        return JwtAuthenticationFilter.getTokenFromRequest(cookieRequest);
+    }
+
+    @Benchmark
+    public String noToken() {
+        return JwtAuthenticationFilter.getTokenFromRequest(anonymousRequest);
+    }
+}
@@ -0,0 +1,74 @@
+package com.back.global.security.jwt;
+
+import com.back.global.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 의 요청당 토큰 처리 비용 비교
+// legacyThreeParses: 키/파서를 매번 만들고 validate -> email -> role 로 세 번 파싱하던 기존 방식
+// parseOnce: 캐시된 키/파서로 한 번만 파싱하고 Claims 에서 값을 꺼내는 현재 방식
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY = "mySecretKeyForJWTTokenGenerationAndValidation1234567890";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    // application.yml 의 jwt 설정과 같은 값
+    static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET_KEY);
+        properties.setAccessTokenValidity(86400000);
+        properties.setRefreshTokenValidity(604800000);
+        return properties;
+    }
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(properties());
+        token = jwtUtil.generateToken("user1@user.com", 4, "USER");
+    }
+
+    @Benchmark
+    public void legacyThreeParses(Blackhole bh) {
+        bh.consume(legacyParse(token) != null);
+        bh.consume(legacyParse(token).getSubject());
+        bh.consume(legacyParse(token).get("role", String.class));
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole bh) {
+        Claims claims = jwtUtil.parseClaims(token);
+        bh.consume(jwtUtil.getEmail(claims));
+        bh.consume(jwtUtil.getRole(claims));
+    }
+
+    // 로그인/토큰 갱신 시 발급 비용
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("user1@user.com", 4, "USER");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    private Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
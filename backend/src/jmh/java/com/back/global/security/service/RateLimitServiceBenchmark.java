@@ -0,0 +1,71 @@
+package com.back.global.security.service;
+
+import com.back.global.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 로그인/계정 찾기/비밀번호 재설정 요청마다 거치는 레이트 리밋 비용 (tryAcquire, 성공 시 refund)
+// 클라이언트 CLIENTS 개의 버킷이 있는 상태에서 측정하고, tryAcquire_contended 는 4 스레드로 같은 버킷의 CAS 경합을 본다.
+// 측정 중 토큰이 바닥나 거부 경로만 재지 않도록 LOGIN 정책 용량을 크게 잡는다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitServiceBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private RateLimitService rateLimitService;
+    private String[] clientKeys;
+    private long unknownSeq;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Policy login = new RateLimitProperties.Policy();
+        login.setCapacity(Integer.MAX_VALUE);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(Map.of(RateLimitPolicy.LOGIN.getKey(), login));
+
+        rateLimitService = new RateLimitService(properties, new SimpleMeterRegistry());
+        clientKeys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientKeys[i] = "10.0." + (i / 256) + "." + (i % 256);
+            rateLimitService.tryAcquire(RateLimitPolicy.LOGIN, clientKeys[i]);
+        }
+    }
+
+    private String randomClient() {
+        return clientKeys[ThreadLocalRandom.current().nextInt(CLIENTS)];
+    }
+
+    // 버킷이 이미 있는 클라이언트의 실패한 시도
+    @Benchmark
+    public boolean tryAcquire_known() {
+        return rateLimitService.tryAcquire(RateLimitPolicy.LOGIN, randomClient());
+    }
+
+    // 처음 보는 클라이언트 - 버킷 생성과 샤드 상한 도달 후의 표본 제거까지 포함 (키 문자열 생성 비용 포함)
+    @Benchmark
+    public boolean tryAcquire_unknown() {
+        return rateLimitService.tryAcquire(RateLimitPolicy.LOGIN, "172.16." + unknownSeq++);
+    }
+
+    // 성공한 시도 - 토큰을 가져갔다가 돌려준다
+    @Benchmark
+    public void tryAcquire_refund() {
+        String client = randomClient();
+        if (rateLimitService.tryAcquire(RateLimitPolicy.LOGIN, client)) {
+            rateLimitService.refund(RateLimitPolicy.LOGIN, client);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean tryAcquire_contended() {
+        return rateLimitService.tryAcquire(RateLimitPolicy.LOGIN, clientKeys[0]);
+    }
+}
@@ -0,0 +1,70 @@
+package com.back.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+// 부하 테스트용 HTTP 클라이언트 (JWT 로그인 + JSON 요청)
+final class ApiClient {
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    String login(String email, String password) throws Exception {
+        HttpResponse<String> response = send(post("/api/v1/auth/login", null, Map.of("email", email, "password", password)));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패(%s): %d %s".formatted(email, response.statusCode(), response.body()));
+        }
+        return readTree(response.body()).get("accessToken").asText();
+    }
+
+    HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    HttpRequest post(String path, String token, Object body) throws Exception {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // 응답 본문은 버리고 상태 코드만 확인
+    boolean sendDiscarding(HttpRequest request) {
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    JsonNode readTree(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.loadtest;
+
+import java.util.Arrays;
+
+// 요청 지연 시간(ns) 기록과 분위 계산
+final class Latencies {
+    private long[] values = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long nanos, boolean success) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(Latencies other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.values[i], true);
+        }
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
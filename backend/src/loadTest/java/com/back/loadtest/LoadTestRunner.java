@@ -0,0 +1,91 @@
+package com.back.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 실행 중인 서버에 대한 간단한 폐쇄형(closed-loop) 부하 테스트
+// JWT 로그인 후 자산/거래 조회 API 를 동시 사용자 수만큼 반복 호출하고 처리량과 지연 시간 분위를 출력한다.
+//
+// 플랫폼 스레드 모드와 가상 스레드 모드(vt 프로파일) 비교:
+//   ./gradlew bootRun --args='--spring.profiles.active=dev'      -> ./gradlew loadTest -Plabel=platform
+//   ./gradlew bootRun --args='--spring.profiles.active=dev,vt'   -> ./gradlew loadTest -Plabel=virtual
+// dev 프로파일의 SQL/바인딩 로그가 결과를 좌우하지 않도록 두 모드 모두
+// --spring.jpa.show-sql=false --logging.level.org.hibernate.orm.jdbc=INFO --logging.level.com.back=INFO 를 함께 넘긴다.
+public class LoadTestRunner {
+    private static final List<String> ENDPOINTS = List.of(
+            "/api/v1/assets/member",
+            "/api/v1/transactions/asset/search/1",
+            "/api/v1/transactions/asset/search?size=20",
+            "/api/v1/transactions/account/search/1"
+    );
+
+    private final String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+    private final ApiClient client = new ApiClient(baseUrl);
+    private final String email = System.getProperty("email", "user1@user.com");
+    private final String password = System.getProperty("password", "111111");
+    private final int concurrency = Integer.getInteger("concurrency", 200);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("warmupSeconds", 10));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("durationSeconds", 30));
+    private final String label = System.getProperty("label", "unnamed");
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    private void run() throws Exception {
+        // 로그인은 한 번만 (로그인 API 에는 요청 수 제한이 있다)
+        String token = client.login(email, password);
+
+        System.out.printf("[%s] 동시 사용자 %d, 워밍업 %ds, 측정 %ds%n",
+                label, concurrency, warmup.toSeconds(), duration.toSeconds());
+        System.out.printf("%-45s %10s %10s %10s %10s %8s%n", "endpoint", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+
+        for (String endpoint : ENDPOINTS) {
+            HttpRequest request = client.get(endpoint, token);
+
+            drive(request, warmup);
+            Latencies result = drive(request, duration);
+            System.out.printf("%-45s %10.1f %10.2f %10.2f %10.2f %8d%n",
+                    endpoint,
+                    result.count() / (double) duration.toSeconds(),
+                    result.percentileMillis(0.50),
+                    result.percentileMillis(0.99),
+                    result.percentileMillis(1.0),
+                    result.errors());
+        }
+    }
+
+    // 사용자마다 응답을 받으면 바로 다음 요청을 보낸다.
+    private Latencies drive(HttpRequest request, Duration length) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Future<Latencies>> futures = new ArrayList<>(concurrency);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(users.submit(() -> loop(request, deadline)));
+            }
+
+            Latencies total = new Latencies();
+            for (Future<Latencies> future : futures) {
+                total.merge(future.get());
+            }
+            return total;
+        }
+    }
+
+    private Latencies loop(HttpRequest request, long deadline) {
+        Latencies latencies = new Latencies();
+
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            boolean success = client.sendDiscarding(request);
+            latencies.record(System.nanoTime() - start, success);
+        }
+        return latencies;
+    }
+}
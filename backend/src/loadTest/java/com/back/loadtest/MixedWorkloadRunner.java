@@ -0,0 +1,205 @@
+package com.back.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// datagen 프로파일로 만든 회원들로 실제 사용 패턴에 가까운 요청을 섞어 보내는 부하 테스트
+// 가상 사용자마다 다른 회원(load{n}@load.test)으로 로그인하고, 아래 비율로 대시보드/검색/쓰기 요청을 반복한다.
+// 사용자별 난수 시드가 고정이라 같은 설정이면 같은 순서의 요청이 재현된다.
+//
+//   ./gradlew bootRun --args='--spring.profiles.active=dev,datagen'
+//   ./gradlew loadTestMix -Pusers=100 -PdurationSeconds=60 -Plabel=baseline
+public class MixedWorkloadRunner {
+
+    private final String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+    private final ApiClient client = new ApiClient(baseUrl);
+    private final String password = System.getProperty("password", "111111");
+    private final int users = Integer.getInteger("users", 100);
+    private final int members = Integer.getInteger("members", 1_000);
+    private final long seed = Long.getLong("seed", 42L);
+    private final long thinkTimeMillis = Long.getLong("thinkTimeMillis", 0L);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("warmupSeconds", 10));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("durationSeconds", 30));
+    private final String label = System.getProperty("label", "unnamed");
+
+    // 요청 종류와 비중 (합계 100)
+    private final List<Operation> operations = List.of(
+            new Operation("dashboard: portfolio summary", 15, (user, random) -> client.get("/api/v1/portfolio/summary", user.token())),
+            new Operation("dashboard: assets", 10, (user, random) -> client.get("/api/v1/assets/member", user.token())),
+            new Operation("dashboard: accounts", 10, (user, random) -> client.get("/api/v1/accounts", user.token())),
+            new Operation("dashboard: goals", 10, (user, random) -> client.get("/api/v1/goals", user.token())),
+            new Operation("search: asset transactions", 15, (user, random) ->
+                    client.get("/api/v1/transactions/asset/search/" + user.pickAsset(random), user.token())),
+            new Operation("search: transaction cursor", 10, (user, random) ->
+                    client.get("/api/v1/transactions/asset/search?size=20", user.token())),
+            new Operation("search: account transactions", 10, (user, random) ->
+                    client.get("/api/v1/transactions/account/search/" + user.pickAccount(random), user.token())),
+            new Operation("write: asset transaction", 10, (user, random) ->
+                    client.post("/api/v1/transactions/asset", user.token(),
+                            transactionBody("assetId", user.pickAsset(random), random))),
+            new Operation("write: account transaction", 10, (user, random) ->
+                    client.post("/api/v1/transactions/account", user.token(),
+                            transactionBody("accountId", user.pickAccount(random), random)))
+    );
+
+    public static void main(String[] args) throws Exception {
+        new MixedWorkloadRunner().run();
+    }
+
+    private void run() throws Exception {
+        List<VirtualUser> virtualUsers = signIn();
+
+        System.out.printf("[%s] 가상 사용자 %d (회원 %d명 중), 워밍업 %ds, 측정 %ds, think time %dms%n",
+                label, users, members, warmup.toSeconds(), duration.toSeconds(), thinkTimeMillis);
+
+        drive(virtualUsers, warmup, 1);
+        Map<String, Latencies> result = drive(virtualUsers, duration, 2);
+
+        System.out.printf("%-32s %8s %10s %10s %10s %10s %10s %8s%n",
+                "operation", "count", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors");
+        Latencies total = new Latencies();
+        for (Map.Entry<String, Latencies> entry : result.entrySet()) {
+            print(entry.getKey(), entry.getValue());
+            total.merge(entry.getValue());
+        }
+        print("TOTAL", total);
+    }
+
+    // 로그인과 보유 자산/계좌 id 조회 (BCrypt 때문에 느리므로 병렬로)
+    private List<VirtualUser> signIn() throws Exception {
+        List<Future<VirtualUser>> futures = new ArrayList<>(users);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> signIn(index)));
+            }
+
+            List<VirtualUser> virtualUsers = new ArrayList<>(users);
+            for (Future<VirtualUser> future : futures) {
+                virtualUsers.add(future.get());
+            }
+            return virtualUsers;
+        }
+    }
+
+    private VirtualUser signIn(int index) throws Exception {
+        String token = client.login("load%d@load.test".formatted(index % members), password);
+
+        JsonNode assets = client.readTree(client.send(client.get("/api/v1/assets/member", token)).body()).get("data");
+        JsonNode accounts = client.readTree(client.send(client.get("/api/v1/accounts", token)).body());
+
+        return new VirtualUser(index, token, ids(assets), ids(accounts));
+    }
+
+    private static List<Integer> ids(JsonNode array) {
+        List<Integer> ids = new ArrayList<>();
+        array.forEach(node -> ids.add(node.get("id").asInt()));
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("자산/계좌가 없는 회원입니다. datagen 프로파일로 데이터를 먼저 생성하세요.");
+        }
+        return ids;
+    }
+
+    // phase 별로 시드를 바꿔 워밍업과 측정 구간이 같은 요청을 반복하지 않게 한다
+    private Map<String, Latencies> drive(List<VirtualUser> virtualUsers, Duration length, int phase) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Future<Map<String, Latencies>>> futures = new ArrayList<>(virtualUsers.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (VirtualUser user : virtualUsers) {
+                Random random = new Random(seed * 31 + user.index() * 7L + phase);
+                futures.add(executor.submit(() -> loop(user, random, deadline)));
+            }
+
+            Map<String, Latencies> total = new LinkedHashMap<>();
+            operations.forEach(operation -> total.put(operation.name(), new Latencies()));
+            for (Future<Map<String, Latencies>> future : futures) {
+                future.get().forEach((name, latencies) -> total.get(name).merge(latencies));
+            }
+            return total;
+        }
+    }
+
+    private Map<String, Latencies> loop(VirtualUser user, Random random, long deadline) throws Exception {
+        Map<String, Latencies> latencies = new LinkedHashMap<>();
+
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(random);
+            HttpRequest request = operation.request().create(user, random);
+
+            long start = System.nanoTime();
+            boolean success = client.sendDiscarding(request);
+            latencies.computeIfAbsent(operation.name(), k -> new Latencies())
+                    .record(System.nanoTime() - start, success);
+
+            if (thinkTimeMillis > 0) {
+                Thread.sleep(thinkTimeMillis);
+            }
+        }
+        return latencies;
+    }
+
+    private Operation pick(Random random) {
+        int roll = random.nextInt(100);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.getLast();
+    }
+
+    private static Map<String, Object> transactionBody(String targetKey, int targetId, Random random) {
+        LocalDateTime date = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(random.nextInt(30));
+        return Map.of(
+                targetKey, targetId,
+                "type", "ADD",
+                "amount", 1_000L * (1 + random.nextInt(100)),
+                "content", "부하 테스트",
+                "date", date.toString()
+        );
+    }
+
+    private void print(String name, Latencies latencies) {
+        System.out.printf("%-32s %8d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                name,
+                latencies.count(),
+                latencies.count() / (double) duration.toSeconds(),
+                latencies.percentileMillis(0.50),
+                latencies.percentileMillis(0.95),
+                latencies.percentileMillis(0.99),
+                latencies.percentileMillis(1.0),
+                latencies.errors());
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create(VirtualUser user, Random random) throws Exception;
+    }
+
+    private record Operation(String name, int weight, RequestFactory request) {
+    }
+
+    private record VirtualUser(int index, String token, List<Integer> assetIds, List<Integer> accountIds) {
+        int pickAsset(Random random) {
+            return assetIds.get(random.nextInt(assetIds.size()));
+        }
+
+        int pickAccount(Random random) {
+            return accountIds.get(random.nextInt(accountIds.size()));
+        }
+    }
+}
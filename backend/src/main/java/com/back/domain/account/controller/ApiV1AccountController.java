@@ -43,8 +43,7 @@ public class ApiV1AccountController {
     public ResponseEntity<List<AccountDto>> getAccounts(@AuthenticationPrincipal CustomUserDetails userDetails){
         Member member=userDetails.getMember();
 
-        List<Account> accounts=accountService.getAccountsByMemberId(member);
-        List<AccountDto> accountDto = accounts.stream().map(AccountDto::new).toList();
+        List<AccountDto> accountDto = accountService.getAccountDtosByMember(member);
 
         return ResponseEntity.status(OK).body(accountDto);
     }
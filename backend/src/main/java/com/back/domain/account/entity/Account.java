@@ -8,13 +8,19 @@ import com.back.domain.transactions.entity.TransactionType;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.*;
 
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        // 회원별 미삭제 계좌 조회
+        @Index(name = "idx_account_user_deleted", columnList = "user_id, is_deleted")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -2,6 +2,9 @@ package com.back.domain.account.repository;
 
 import com.back.domain.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,15 @@ public interface AccountRepository extends JpaRepository<Account,Integer> {
     List<Account> findAllByMemberId(int memberId);
     List<Account> findAllByMemberIdAndIsDeletedFalse(int memberId);
     boolean existsAccountByAccountNumberAndName(String accountNumber,String name);
+    boolean existsByIdAndMemberIdAndIsDeletedFalse(int id, int memberId);
+
+    // 입금: 현재 값 기준으로 원자적으로 더함
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount WHERE a.id = :accountId")
+    int increaseBalance(@Param("accountId") int accountId, @Param("amount") long amount);
+
+    // 출금: 잔액이 충분할 때만 차감 (검사와 차감이 한 문장이라 동시 출금에도 음수가 되지 않음)
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance - :amount WHERE a.id = :accountId AND a.balance >= :amount")
+    int decreaseBalance(@Param("accountId") int accountId, @Param("amount") long amount);
 }
@@ -1,5 +1,6 @@
 package com.back.domain.account.service;
 
+import com.back.domain.account.dto.AccountDto;
 import com.back.domain.account.dto.RqCreateAccountDto;
 import com.back.domain.account.dto.RqUpdateAccountDto;
 import com.back.domain.account.entity.Account;
@@ -7,7 +8,15 @@ import com.back.domain.account.exception.AccountDuplicateException;
 import com.back.domain.account.exception.AccountNotFoundException;
 import com.back.domain.account.repository.AccountRepository;
 import com.back.domain.member.entity.Member;
+import com.back.domain.transactions.entity.TransactionType;
+import com.back.global.cache.CacheNames;
+import com.back.global.cache.MemberListChangedEvent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +24,12 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     private void checkAccountDuplicate (RqCreateAccountDto rqCreateAccountDto){
         if(accountRepository.existsAccountByAccountNumberAndName(
@@ -38,13 +50,24 @@ public class AccountService {
         checkAccountDuplicate(rqCreateAccountDto);
         Account account = Account.create(rqCreateAccountDto,member);
 
-        return accountRepository.save(account);
+        Account saved = accountRepository.save(account);
+        eventPublisher.publishEvent(MemberListChangedEvent.accounts(member.getId()));
+        return saved;
     }
 
     public List<Account> getAccountsByMemberId(Member member) {
         return accountRepository.findAllByMemberIdAndIsDeletedFalse(member.getId());
     }
 
+    // 회원별 계좌 목록 (캐시) - 계좌 등록/수정/삭제, 잔액 변경 시 MemberListChangedEvent 로 제거됨
+    @Cacheable(cacheNames = CacheNames.MEMBER_ACCOUNTS, key = "#member.id")
+    @Transactional(readOnly = true)
+    public List<AccountDto> getAccountDtosByMember(Member member) {
+        return accountRepository.findAllByMemberIdAndIsDeletedFalse(member.getId()).stream()
+                .map(AccountDto::new)
+                .toList();
+    }
+
     public Account getAccount(int accountId,Member member) {
         Account account = findByAccount(accountId);
         account.validateOwner(member);
@@ -56,12 +79,45 @@ public class AccountService {
     public void updateAccount(int accountId, Member member, RqUpdateAccountDto rqUpdateAccountDto) {
         Account account = getAccount(accountId, member);
         account.updateAccountNumber(rqUpdateAccountDto.getAccountNumber());
+        eventPublisher.publishEvent(MemberListChangedEvent.accounts(member.getId()));
     }
 
     @Transactional
     public void deleteAccount(int accountId,Member member) {
         Account account = getAccount(accountId, member);
         account.deleteAccount();
+        eventPublisher.publishEvent(MemberListChangedEvent.accounts(member.getId()));
+    }
+
+    // 계좌 행을 잠그고 최신 잔액으로 읽어옴
+    // 여러 거래를 모아 잔액을 한 번에 반영할 때 사용하며, 잠금은 커밋까지 유지된다.
+    // 같은 영속성 컨텍스트에 이전 값이 남아 있을 수 있어 refresh 로 다시 읽는다.
+    @Transactional
+    public Account lockAccount(int accountId) {
+        Account account = findByAccount(accountId);
+        entityManager.refresh(account, LockModeType.PESSIMISTIC_WRITE);
+        return account;
     }
 
+    // 잔액 반영
+    // 엔티티 값을 읽고 고쳐 쓰지 않고 조건부 UPDATE 한 번으로 처리해 동시 거래에도 갱신이 유실되지 않는다.
+    // UPDATE 가 잡은 행 잠금은 커밋까지 유지되므로 같은 계좌의 거래는 이 지점부터 순서대로 처리된다.
+    @Transactional
+    public void applyBalanceChange(Account account, TransactionType type, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("거래 금액은 0보다 커야 합니다.");
+        }
+
+        int updated = type == TransactionType.ADD
+                ? accountRepository.increaseBalance(account.getId(), amount)
+                : accountRepository.decreaseBalance(account.getId(), amount);
+
+        if (updated == 0) {
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        }
+
+        // 영속성 컨텍스트의 계좌도 반영된 잔액으로 맞춤
+        entityManager.refresh(account);
+        eventPublisher.publishEvent(MemberListChangedEvent.accounts(account.getMember().getId()));
+    }
 }
@@ -90,8 +90,7 @@ public class ApiV1AssetController {
     public ResponseEntity<RsData<List<AssetDto>>> getAssetsByCurrentMember(@AuthenticationPrincipal CustomUserDetails userDetails) {
         int memberId = userDetails.getMember().getId();
 
-        List<Asset> assets = assetService.findAllByMemberId(memberId);
-        List<AssetDto> assetDtos = assets.stream().map(AssetDto::new).toList();
+        List<AssetDto> assetDtos = assetService.getAssetDtosByMemberId(memberId);
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(new RsData<>("200-1", "%d번 사용자의 자산 목록을 조회했습니다.".formatted(memberId), assetDtos));
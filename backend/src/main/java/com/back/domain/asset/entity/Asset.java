@@ -10,6 +10,10 @@ import org.hibernate.annotations.Where;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = {
+        // 회원별 활성 자산 조회 (status = true)
+        @Index(name = "idx_asset_member_status", columnList = "member_id, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,6 +15,7 @@ public interface AssetRepository extends JpaRepository<Asset, Integer> {
     long countAllByStatusTrue();
 
     Optional<Asset> findByIdAndStatusTrue(int id);
+    boolean existsByIdAndMemberIdAndStatusTrue(int id, int memberId);
 
     /*
         dirty checking, flush 과정을 거치지 않는 직접 쿼리
@@ -1,5 +1,6 @@
 package com.back.domain.asset.service;
 
+import com.back.domain.asset.Dto.AssetDto;
 import com.back.domain.asset.Dto.CreateAssetRequestDto;
 import com.back.domain.asset.Dto.CreateWithoutMemberDto;
 import com.back.domain.asset.Dto.UpdateAssetRequestDto;
@@ -8,7 +9,12 @@ import com.back.domain.asset.entity.AssetType;
 import com.back.domain.asset.repository.AssetRepository;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
+import com.back.global.cache.CacheNames;
+import com.back.global.cache.MemberListChangedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +24,11 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class AssetService {
     private final AssetRepository assetRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 엔티티 빌더
     @Transactional
@@ -37,6 +45,7 @@ public class AssetService {
                 .build();
 
         assetRepository.save(asset);
+        eventPublisher.publishEvent(MemberListChangedEvent.assets(member.getId()));
         return asset;
     }
 
@@ -54,6 +63,7 @@ public class AssetService {
                 .build();
 
         assetRepository.save(asset);
+        eventPublisher.publishEvent(MemberListChangedEvent.assets(member.getId()));
         return asset;
     }
 
@@ -85,6 +95,15 @@ public class AssetService {
     @Transactional(readOnly = true)
     public List<Asset> findAllByMemberId(int memberId) {return assetRepository.findAllByStatusTrueAndMemberId(memberId);}// status == true 인 경우만 찾음.
 
+    // 회원별 활성 자산 목록 (캐시) - 자산 등록/수정/삭제 시 MemberListChangedEvent 로 제거됨
+    @Cacheable(cacheNames = CacheNames.MEMBER_ASSETS, key = "#memberId")
+    @Transactional(readOnly = true)
+    public List<AssetDto> getAssetDtosByMemberId(int memberId) {
+        return assetRepository.findAllByStatusTrueAndMemberId(memberId).stream()
+                .map(AssetDto::new)
+                .toList();
+    }
+
     /* 기존 deleteById 코드
     @Transactional
     public Asset deleteById(int id) {
@@ -103,6 +122,7 @@ public class AssetService {
                 .orElseThrow(() -> new NoSuchElementException("해당 id는 존재하지 않는 자산입니다. id:" + id));
         if (asset != null) {
             assetRepository.softDeleteById(id);
+            eventPublisher.publishEvent(MemberListChangedEvent.assets(asset.getMember().getId()));
         }
         return asset;
     }
@@ -116,6 +136,7 @@ public class AssetService {
         asset.setAssetType(AssetType.valueOf(updateAssetRequestDto.assetType()));
         asset.setAssetValue(updateAssetRequestDto.assetValue());
 
+        eventPublisher.publishEvent(MemberListChangedEvent.assets(asset.getMember().getId()));
         return assetRepository.save(asset);
     }
 
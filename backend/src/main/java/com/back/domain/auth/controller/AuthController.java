@@ -34,13 +34,16 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인 후 JWT 토큰을 발급받음.")
-    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest) {
+    public ResponseEntity<LoginResponseDto> login(
+            @Valid @RequestBody LoginRequestDto loginRequest,
+            HttpServletRequest httpRequest) {
         
         log.info("로그인 요청 시작 - 이메일: {}", loginRequest.email());
         
         try {
             // 1. 사용자 인증
-            Member member = authService.authenticateUser(loginRequest.email(), loginRequest.password());
+            String ipAddress = getClientIpAddress(httpRequest);
+            Member member = authService.authenticateUser(loginRequest.email(), loginRequest.password(), ipAddress);
             log.info("사용자 인증 성공 - 사용자 ID: {}, 이메일: {}", member.getId(), member.getEmail());
 
             // 2. JWT 토큰 쌍 생성(Access Token과 Refresh Token)
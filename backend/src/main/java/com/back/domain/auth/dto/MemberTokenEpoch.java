@@ -0,0 +1,10 @@
+package com.back.domain.auth.dto;
+
+import java.time.LocalDateTime;
+
+// 회원별 가장 최근에 발급된 리프레시 토큰의 발급 시각
+public record MemberTokenEpoch(
+        Integer memberId,
+        LocalDateTime issuedAt
+) {
+}
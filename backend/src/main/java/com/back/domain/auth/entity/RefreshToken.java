@@ -2,6 +2,7 @@ package com.back.domain.auth.entity;
 
 import com.back.domain.member.entity.Member;
 import com.back.global.jpa.entity.BaseEntity;
+import com.back.global.security.jwt.TokenHasher;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,18 +10,30 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+// 토큰 원문은 저장하지 않고 SHA-256 다이제스트(char(64))로만 조회한다
 @Entity
+@Table(indexes = {
+        // 유효 토큰 조회 (tokenHash + isActive + expiryDate 조건을 인덱스에서 모두 거름)
+        @Index(name = "idx_refresh_token_valid", columnList = "token_hash, is_active, expiry_date"),
+        // 정리 배치 (비활성 토큰 / 활성이지만 만료된 토큰 검색)
+        @Index(name = "idx_refresh_token_purge", columnList = "is_active, expiry_date")
+})
 @Getter
 @NoArgsConstructor
 public class RefreshToken extends BaseEntity {
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true,
+            length = TokenHasher.HASH_LENGTH, columnDefinition = "char(64)")
+    private String tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
+    // JWT iat (재시작 시 TokenRevocationIndex 를 다시 채우는 데 사용)
+    @Column(nullable = false)
+    private LocalDateTime issuedAt;
+
     @Column(nullable = false)
     private LocalDateTime expiryDate;
 
@@ -28,10 +41,12 @@ public class RefreshToken extends BaseEntity {
     private boolean isActive;
 
     @Builder
-    public RefreshToken(String token, Member member, LocalDateTime expiryDate) {
-        this.token = token;
+    public RefreshToken(String token, Member member, LocalDateTime issuedAt, LocalDateTime expiryDate) {
+        this.tokenHash = TokenHasher.sha256Hex(token);
         this.member = member;
+        this.issuedAt = issuedAt;
         this.expiryDate = expiryDate;
+        this.isActive = true;
     }
 
     public void deactivate() {
@@ -42,8 +57,9 @@ public class RefreshToken extends BaseEntity {
         return LocalDateTime.now().isAfter(this.expiryDate);
     }
 
-    public void updateToken(String newToken, LocalDateTime newExpiryDate) {
-        this.token = newToken;
+    public void updateToken(String newToken, LocalDateTime newIssuedAt, LocalDateTime newExpiryDate) {
+        this.tokenHash = TokenHasher.sha256Hex(newToken);
+        this.issuedAt = newIssuedAt;
         this.expiryDate = newExpiryDate;
         this.isActive = true; // 토큰을 갱신할 때 활성화 상태로 설정
     }
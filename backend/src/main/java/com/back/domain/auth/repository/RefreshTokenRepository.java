@@ -1,36 +1,57 @@
 package com.back.domain.auth.repository;
 
+import com.back.domain.auth.dto.MemberTokenEpoch;
 import com.back.domain.auth.entity.RefreshToken;
 import com.back.domain.member.entity.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
 
-    // 토큰으로 조회(활성화된것만)
-    @Query("SELECT rt From RefreshToken rt WHERE rt.token = :token AND rt.isActive = true AND rt.expiryDate > :now")
-    Optional<RefreshToken> findValidToken(String token, LocalDateTime now);
+    // 토큰 해시로 조회(활성화된것만)
+    @Query("SELECT rt From RefreshToken rt WHERE rt.tokenHash = :tokenHash AND rt.isActive = true AND rt.expiryDate > :now")
+    Optional<RefreshToken> findValidToken(String tokenHash, LocalDateTime now);
 
     //사용자별 활성화된 토큰 조회
     @Query("SELECT rt FROM RefreshToken rt WHERE rt.member = :member AND rt.isActive = true")
     Optional<RefreshToken> findActiveTokenByMember(Member member);
 
-    //사용자의 모든 토큰 비활성화
+    //사용자의 모든 활성 토큰 비활성화 (이미 비활성인 행은 건드리지 않음)
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.isActive = false WHERE rt.member = :member")
+    @Query("UPDATE RefreshToken rt SET rt.isActive = false WHERE rt.member = :member AND rt.isActive = true")
     void deactivateAllTokensByMember(Member member);
 
-    // 만료된 토큰 정리
+    // 토큰 사용 처리: 활성 + 미만료인 경우에만 비활성화하고 변경 행 수 반환 (0 이면 이미 사용/무효화된 토큰)
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :now")
-    void deleteExpired(LocalDateTime now);
+    @Query("UPDATE RefreshToken rt SET rt.isActive = false WHERE rt.tokenHash = :tokenHash AND rt.isActive = true AND rt.expiryDate > :now")
+    int consumeToken(String tokenHash, LocalDateTime now);
+
+    // 회원별 최근 발급 시각 (TokenRevocationIndex 초기화용)
+    @Query("SELECT new com.back.domain.auth.dto.MemberTokenEpoch(rt.member.id, MAX(rt.issuedAt)) " +
+           "FROM RefreshToken rt GROUP BY rt.member.id")
+    List<MemberTokenEpoch> findLatestIssuedAtByMember();
+
+    // 정리 대상: 비활성 토큰 id (idx_refresh_token_purge 범위 스캔, limit 건만)
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.isActive = false")
+    List<Integer> findInactiveIds(Limit limit);
+
+    // 정리 대상: 활성이지만 만료된 토큰 id
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.isActive = true AND rt.expiryDate < :now")
+    List<Integer> findExpiredIds(LocalDateTime now, Limit limit);
+
+    // id 로 묶음 삭제 (PK 로만 잠그도록 조건 대신 id 목록 사용)
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteByIdIn(List<Integer> ids);
 
     //특정 토큰 비활성화
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.isActive = false WHERE rt.token = :token")
-    void deactivateToken(String token);
+    @Query("UPDATE RefreshToken rt SET rt.isActive = false WHERE rt.tokenHash = :tokenHash")
+    void deactivateToken(String tokenHash);
 }
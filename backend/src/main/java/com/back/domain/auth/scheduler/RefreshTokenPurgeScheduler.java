@@ -0,0 +1,39 @@
+package com.back.domain.auth.scheduler;
+
+import com.back.domain.auth.service.TokenService;
+import com.back.global.config.RefreshTokenPurgeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 만료/비활성 리프레시 토큰 정리 배치
+// 한 번에 chunkSize 건씩 각각의 트랜잭션으로 삭제하고, 한 실행에서 maxChunksPerRun 청크까지만 처리한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenPurgeScheduler {
+
+    private final TokenService tokenService;
+    private final RefreshTokenPurgeProperties properties;
+
+    @Scheduled(cron = "${refresh-token-purge.cron:0 15 * * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        long startedAt = System.currentTimeMillis();
+
+        int chunks = 0;
+        long deleted = 0;
+        int chunkDeleted;
+        do {
+            chunkDeleted = tokenService.purgeChunk(now, properties.getChunkSize());
+            deleted += chunkDeleted;
+            chunks++;
+        } while (chunkDeleted == properties.getChunkSize() && chunks < properties.getMaxChunksPerRun());
+
+        log.info("리프레시 토큰 정리 완료 - 삭제: {}건, 청크: {}, 소요: {}ms",
+                deleted, chunks, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -4,88 +4,86 @@ import com.back.domain.auth.dto.FindAccountResponseDto;
 import com.back.domain.auth.dto.ResetPasswordRequestDto;
 import com.back.domain.auth.dto.ResetPasswordResponseDto;
 import com.back.domain.auth.dto.TokenPairDto;
-import com.back.domain.auth.entity.RefreshToken;
 import com.back.domain.auth.exception.AuthenticationException;
-import com.back.domain.auth.repository.RefreshTokenRepository;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.global.security.jwt.JwtUtil;
+import com.back.global.security.service.PrincipalCache;
+import com.back.global.security.service.RateLimitPolicy;
 import com.back.global.security.service.RateLimitService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-
-
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Timed("app.service")
 public class AuthService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final RateLimitService rateLimitService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationIndex tokenRevocationIndex;
     private final JwtUtil jwtUtil;
     private final TokenService tokenService;
+    private final PrincipalCache principalCache;
 
     public FindAccountResponseDto findAccount(String name, String phoneNumber, String ipAddress) {
-        // Rate limit 체크
-        if (!rateLimitService.isAllowed(ipAddress)) {
-            rateLimitService.recordAttempt(ipAddress);
-            throw new AuthenticationException("잦은 시도로 일시적으로 차단되었습니다. 30분 후 다시 시도해주세요.");
+        // Rate limit 체크 - 시도마다 토큰을 먼저 가져가고 성공하면 돌려준다
+        if (!rateLimitService.tryAcquire(RateLimitPolicy.FIND_ACCOUNT, ipAddress)) {
+            throw rateLimitExceeded(RateLimitPolicy.FIND_ACCOUNT, ipAddress);
         }
 
         Member member = memberRepository.findByNameAndPhoneNumberAndNotDeleted(name, phoneNumber)
-                .orElseThrow(() -> {
-                    rateLimitService.recordAttempt(ipAddress); //실패시 시도 기록
-                    return new AuthenticationException("일치하는 회원 정보를 찾을 수 없습니다.");
-                });
+                .orElseThrow(() -> new AuthenticationException("일치하는 회원 정보를 찾을 수 없습니다."));
 
         if (!member.isActive()) {
-            rateLimitService.recordAttempt(ipAddress); // 실패시 시도 기록
             throw new AuthenticationException("비활성화된 계정입니다.");
         }
 
+        rateLimitService.refund(RateLimitPolicy.FIND_ACCOUNT, ipAddress);
         return FindAccountResponseDto.from(member);
     }
 
 
     @Transactional
     public ResetPasswordResponseDto resetPassword(ResetPasswordRequestDto request, String ipAddress) {
-        // Rate limit 체크
-        if (!rateLimitService.isAllowed(ipAddress)) {
-            rateLimitService.recordAttempt(ipAddress);
-            throw new AuthenticationException("잦은 시도로 일시적으로 차단되었습니다. 30분 후 다시 시도해주세요.");
+        // Rate limit 체크 - 시도마다 토큰을 먼저 가져가고 성공하면 돌려준다
+        if (!rateLimitService.tryAcquire(RateLimitPolicy.RESET_PASSWORD, ipAddress)) {
+            throw rateLimitExceeded(RateLimitPolicy.RESET_PASSWORD, ipAddress);
         }
 
         Member member = memberRepository.findByEmailAndNameAndPhoneNumberAndNotDeleted(
                 request.email(), request.name(), request.phoneNumber())
-                .orElseThrow(() -> {
-                    rateLimitService.recordAttempt(ipAddress); // 실패시 시도 기록
-                    return new AuthenticationException("일치하는 회원 정보를 찾을 수 없습니다.");
-                });
+                .orElseThrow(() -> new AuthenticationException("일치하는 회원 정보를 찾을 수 없습니다."));
 
         if (!member.isActive()) {
-            rateLimitService.recordAttempt(ipAddress); // 실패시 시도 기록
             throw new AuthenticationException("비활성화된 계정입니다.");
         }
 
         // 사용자가 입력한 새 비밀번호로 변경
         String encodedPassword = passwordEncoder.encode(request.newPassword());
         member.changePassword(encodedPassword);
+        principalCache.evict(member.getEmail());
 
+        rateLimitService.refund(RateLimitPolicy.RESET_PASSWORD, ipAddress);
         return ResetPasswordResponseDto.of(true);
     }
 
 
-    public Member authenticateUser(String email, String password) {
+    public Member authenticateUser(String email, String password, String ipAddress) {
         log.debug("사용자 인증 시작 - 이메일: {}", email);
+
+        // Rate limit 체크 - 시도마다 토큰을 먼저 가져가고 성공하면 돌려준다
+        if (!rateLimitService.tryAcquire(RateLimitPolicy.LOGIN, ipAddress)) {
+            throw rateLimitExceeded(RateLimitPolicy.LOGIN, ipAddress);
+        }
         
         Member member = memberRepository.findByEmailAndNotDeleted(email)
                 .orElseThrow(() -> {
@@ -104,9 +102,16 @@ public class AuthService {
         }
 
         log.debug("사용자 인증 성공 - 이메일: {}, 사용자 ID: {}", email, member.getId());
+        rateLimitService.refund(RateLimitPolicy.LOGIN, ipAddress);
         return member;
     }
 
+    // 레이트 리밋 초과 예외 (다음 시도 가능 시간을 분 단위로 안내)
+    private AuthenticationException rateLimitExceeded(RateLimitPolicy policy, String ipAddress) {
+        long minutes = Math.max(1, (rateLimitService.getRetryAfter(policy, ipAddress).toSeconds() + 59) / 60);
+        return new AuthenticationException("잦은 시도로 일시적으로 차단되었습니다. %d분 후 다시 시도해주세요.".formatted(minutes));
+    }
+
     @Transactional
     public TokenPairDto createTokenPair(Member member) {
         // 기존 토큰 무효화
@@ -117,24 +122,31 @@ public class AuthService {
     }
 
     // Refresh Token 으로 새 Access Token 생성
-    @Transactional
+    // 이전 세대 토큰(재사용, 로그아웃/재로그인 이전 발급)은 TokenRevocationIndex 에서 DB 조회 없이 거르고,
+    // 통과한 토큰은 조건부 update(활성 + 미만료일 때만 비활성화)로 최종 확인한다.
+    // 탈취 의심 시 전체 토큰 무효화는 예외를 던져도 롤백되지 않아야 한다.
+    @Transactional(noRollbackFor = AuthenticationException.class)
     public TokenPairDto refreshAccessToken(String refreshToken) {
         // Refresh Token 검증
-        if (!jwtUtil.validateToken(refreshToken) || !jwtUtil.isRefreshToken(refreshToken)) {
+        Claims claims = jwtUtil.parseClaims(refreshToken);
+        if (!jwtUtil.isRefreshToken(claims)) {
             throw new AuthenticationException("유효하지 않은 Refresh Token입니다.");
         }
 
-        // DB에서 토큰 조회후 member 정보 추출
-        RefreshToken storedToken = refreshTokenRepository.findValidToken(refreshToken, LocalDateTime.now())
-                .orElseGet(() -> {
-                    handleSuspiciousTokenActivity(refreshToken);
-                    throw new AuthenticationException("토큰 탈취가 의심됩니다. 관리자에게 문의해주세요.");
-                });
+        int memberId = claims.get("userId", Integer.class);
+        if (tokenRevocationIndex.isRevoked(memberId, claims.getIssuedAt().toInstant().getEpochSecond())) {
+            throw suspiciousToken(refreshToken);
+        }
 
-        Member member = storedToken.getMember();
+        // 새 토큰 쌍 생성 (기존 토큰 사용 처리에 실패하면 이미 사용/무효화된 토큰)
+        Member member = findMemberById(memberId);
+        return tokenService.rotateTokenPair(refreshToken, member)
+                .orElseThrow(() -> suspiciousToken(refreshToken));
+    }
 
-        // 새 토큰 쌍 생성
-        return tokenService.rotateTokenPair(refreshToken, member);
+    private AuthenticationException suspiciousToken(String refreshToken) {
+        handleSuspiciousTokenActivity(refreshToken);
+        return new AuthenticationException("토큰 탈취가 의심됩니다. 관리자에게 문의해주세요.");
     }
 
     // 로그아웃 시 Refresh Token 비활성화
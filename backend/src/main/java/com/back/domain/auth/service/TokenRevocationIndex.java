@@ -0,0 +1,52 @@
+package com.back.domain.auth.service;
+
+import com.back.domain.auth.dto.MemberTokenEpoch;
+import com.back.domain.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 회원별 "이 시각(초) 이전에 발급된 리프레시 토큰은 무효" 기준 색인
+// 회원당 활성 세션은 하나라서 새 토큰을 발급하거나 로그아웃하면 그 이전 토큰은 모두 무효가 된다.
+// 재사용/로그아웃된 토큰 대부분을 DB 조회 없이 거르고, 통과한 토큰만 DB 에서 최종 확인(조건부 update)한다.
+// 기준 시각은 앞으로만 움직이고 트랜잭션 결과와 무관하게 즉시 반영된다 (롤백돼도 더 엄격해질 뿐).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationIndex implements ApplicationRunner {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final Map<Integer, Long> notBefore = new ConcurrentHashMap<>();
+
+    // 시작 시 회원별 최근 발급 시각으로 채움
+    @Override
+    public void run(ApplicationArguments args) {
+        List<MemberTokenEpoch> epochs = refreshTokenRepository.findLatestIssuedAtByMember();
+        epochs.forEach(epoch -> revokeIssuedBefore(epoch.memberId(), toEpochSecond(epoch.issuedAt())));
+        log.info("리프레시 토큰 무효화 색인 로드 - 회원: {}", epochs.size());
+    }
+
+    // 기준 시각 이전에 발급된 토큰이면 true (기준이 없는 회원은 DB 확인에 맡김)
+    public boolean isRevoked(int memberId, long issuedAtEpochSecond) {
+        Long epoch = notBefore.get(memberId);
+        return epoch != null && issuedAtEpochSecond < epoch;
+    }
+
+    // epochSecond 이전에 발급된 토큰을 무효로 표시
+    public void revokeIssuedBefore(int memberId, long epochSecond) {
+        notBefore.merge(memberId, epochSecond, Math::max);
+    }
+
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
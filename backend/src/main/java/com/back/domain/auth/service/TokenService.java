@@ -5,21 +5,34 @@ import com.back.domain.auth.entity.RefreshToken;
 import com.back.domain.auth.repository.RefreshTokenRepository;
 import com.back.domain.member.entity.Member;
 import com.back.global.security.jwt.JwtUtil;
+import com.back.global.security.jwt.TokenHasher;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed("app.service")
 public class TokenService {
+    public static final String ROTATIONS_METRIC = "app.auth.token.rotations";
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final MeterRegistry meterRegistry;
+    private final TokenRevocationIndex revocationIndex;
 
     //새로운 토크 쌍 생성, RefreshToken DB에 저장
     @Transactional
@@ -34,38 +47,64 @@ public class TokenService {
         return TokenPairDto.of(accessToken, refreshToken);
     }
 
-    // 기존 토큰 무효화, 새로운 토큰 쌍 생성
+    // 기존 토큰을 사용 처리(활성 + 미만료일 때만 비활성화)하고 새로운 토큰 쌍 생성
+    // 이미 사용/무효화된 토큰이면 empty
     @Transactional
-    public TokenPairDto rotateTokenPair(String oldRefreshToken, Member member) {
-        // 기존 토큰 즉시 무효화
-        invalidateToken(oldRefreshToken);
+    public Optional<TokenPairDto> rotateTokenPair(String oldRefreshToken, Member member) {
+        if (refreshTokenRepository.consumeToken(TokenHasher.sha256Hex(oldRefreshToken), LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
 
         // 새 토큰 쌍 생성 및 저장
-        return generateAndSaveTokenPair(member);
+        TokenPairDto tokenPair = generateAndSaveTokenPair(member);
+        meterRegistry.counter(ROTATIONS_METRIC).increment();
+        return Optional.of(tokenPair);
     }
 
-    // 토큰 무효화
+    // 토큰 무효화 (로그아웃) - 해당 회원의 지금까지 발급된 토큰을 색인에서도 무효 처리
     @Transactional
     public void invalidateToken(String oldRefreshToken) {
-        refreshTokenRepository.deactivateToken(oldRefreshToken);
+        refreshTokenRepository.deactivateToken(TokenHasher.sha256Hex(oldRefreshToken));
+
+        Claims claims = jwtUtil.parseClaims(oldRefreshToken);
+        if (claims != null && jwtUtil.isRefreshToken(claims)) {
+            revocationIndex.revokeIssuedBefore(claims.get("userId", Integer.class), Instant.now().getEpochSecond());
+        }
     }
 
     // 사용자의 모든 토큰 무효화
     @Transactional
     public void invalidateAllUserTokens(Member member) {
         refreshTokenRepository.deactivateAllTokensByMember(member);
+        revocationIndex.revokeIssuedBefore(member.getId(), Instant.now().getEpochSecond());
+    }
+
+    // 배치: 비활성 토큰을 먼저, 남는 자리만큼 만료된 토큰을 최대 chunkSize 건 삭제하고 삭제 건수 반환
+    // 청크마다 트랜잭션을 끊어 삭제 잠금이 오래 유지되지 않게 한다
+    @Transactional
+    public int purgeChunk(LocalDateTime now, int chunkSize) {
+        List<Integer> ids = new ArrayList<>(refreshTokenRepository.findInactiveIds(Limit.of(chunkSize)));
+        if (ids.size() < chunkSize) {
+            ids.addAll(refreshTokenRepository.findExpiredIds(now, Limit.of(chunkSize - ids.size())));
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByIdIn(ids);
     }
 
-    //RefreshToken을 DB에 저장
+    //RefreshToken을 DB에 저장하고, 이보다 먼저 발급된 토큰은 색인에서 무효 처리 (회원당 세션 1개)
     private void saveRefreshTokenToDatabase(String refreshToken, Member member) {
-        LocalDateTime expiryDate = convertToLocalDateTime(jwtUtil.getExpirationDateFromToken(refreshToken));
+        Claims claims = jwtUtil.parseClaims(refreshToken);
         RefreshToken refreshTokenEntity = RefreshToken.builder()
                 .token(refreshToken)
                 .member(member)
-                .expiryDate(expiryDate)
+                .issuedAt(convertToLocalDateTime(claims.getIssuedAt()))
+                .expiryDate(convertToLocalDateTime(claims.getExpiration()))
                 .build();
 
         refreshTokenRepository.save(refreshTokenEntity);
+        revocationIndex.revokeIssuedBefore(member.getId(), claims.getIssuedAt().toInstant().getEpochSecond());
     }
 
     // Date를 LocalDateTime으로 변환하는 메서드
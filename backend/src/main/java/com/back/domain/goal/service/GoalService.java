@@ -5,6 +5,7 @@ import com.back.domain.goal.dto.GoalRequestDto;
 import com.back.domain.goal.entity.Goal;
 import com.back.domain.goal.repository.GoalRepository;
 import com.back.domain.member.entity.Member;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +16,7 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class GoalService {
     private final GoalRepository goalRepository;
 
@@ -1,6 +1,8 @@
 package com.back.domain.member.controller;
 
 import com.back.domain.member.dto.AdminMemberDto;
+import com.back.domain.member.dto.AdminMemberFilter;
+import com.back.domain.member.dto.AdminMemberPageDto;
 import com.back.domain.member.dto.MemberResponseDto;
 import com.back.domain.member.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,13 +26,29 @@ public class AdminMemberV1Controller {
 
     private final MemberService memberService;
 
-    // 전체 회원 조회 (개인정보 마스킹)
+    // 회원 목록 페이지 조회 (커서 기반 + 필터, 반환하는 페이지만 마스킹)
+    @GetMapping("/page")
+    @Operation(summary = "회원 목록 페이지 조회",
+            description = "상태(ACTIVE/INACTIVE), 역할(ADMIN/USER), 가입일(yyyy-MM-dd) 범위로 필터링합니다. " +
+                    "응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+    public ResponseEntity<AdminMemberPageDto> getMemberPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String createdFrom,
+            @RequestParam(required = false) String createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        AdminMemberFilter filter = AdminMemberFilter.of(status, role, createdFrom, createdTo);
+        return ResponseEntity.ok(memberService.getMembersForAdmin(filter, cursor, size));
+    }
+
+    // 전체 회원 조회 (개인정보 마스킹) - 회원이 많으면 /page 사용
     @GetMapping
-    @Operation(summary = "전체회원 조회", description = "전체 회원 정보를 조회합니다.")
+    @Operation(summary = "전체회원 조회", description = "전체 회원 정보를 조회합니다. 회원이 많으면 /page 를 사용하세요.")
     public ResponseEntity<List<AdminMemberDto>> getAllMembers() {
         List<MemberResponseDto> members = memberService.getAllMembers();
         List<AdminMemberDto> adminMemberDtos = members.stream()
-                .map(this::convertToAdminDto)
+                .map(AdminMemberDto::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(adminMemberDtos);
     }
@@ -40,7 +58,7 @@ public class AdminMemberV1Controller {
     @Operation(summary = "회원ID 조회", description = "회원 ID로 회원 정보를 조회합니다.")
     public ResponseEntity<AdminMemberDto> getMember(@PathVariable int memberId) {
         MemberResponseDto memberDto = memberService.getMemberById(memberId);
-        AdminMemberDto adminMemberDto = convertToAdminDto(memberDto);
+        AdminMemberDto adminMemberDto = AdminMemberDto.from(memberDto);
         return ResponseEntity.ok(adminMemberDto);
     }
 
@@ -62,13 +80,13 @@ public class AdminMemberV1Controller {
         return ResponseEntity.ok(response);
     }
 
-    // 활성 회원 목록 조회
+    // 활성 회원 목록 조회 - 회원이 많으면 /page?status=ACTIVE 사용
     @GetMapping("/active")
-    @Operation(summary = "활성화된 회원 조회", description = "활성화된 회원 목록을 조회합니다.")
+    @Operation(summary = "활성화된 회원 조회", description = "활성화된 회원 목록을 조회합니다. 회원이 많으면 /page?status=ACTIVE 를 사용하세요.")
     public ResponseEntity<List<AdminMemberDto>> getActiveMembers() {
         List<MemberResponseDto> activeMembers = memberService.getActiveMembers();
         List<AdminMemberDto> adminMemberDtos = activeMembers.stream()
-                .map(this::convertToAdminDto)
+                .map(AdminMemberDto::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(adminMemberDtos);
     }
@@ -80,45 +98,7 @@ public class AdminMemberV1Controller {
             @RequestParam String email,
             @RequestParam String name) {
         MemberResponseDto memberDto = memberService.getMemberByEmailAndName(email, name);
-        AdminMemberDto adminMemberDto = convertToAdminDto(memberDto);
+        AdminMemberDto adminMemberDto = AdminMemberDto.from(memberDto);
         return ResponseEntity.ok(adminMemberDto);
     }
-
-    // MemberResponseDto를 AdminMemberDto로 변환하는 헬퍼 메서드
-    private AdminMemberDto convertToAdminDto(MemberResponseDto memberDto) {
-        return AdminMemberDto.builder()
-                .id(memberDto.id())
-                .maskedEmail(maskEmail(memberDto.email()))
-                .maskedName(maskName(memberDto.name()))
-                .maskedPhone(maskPhone(memberDto.phoneNumber()))
-                .status(memberDto.isActive() ? "ACTIVE" : "INACTIVE")
-                .createdAt(memberDto.createdAt())
-                .updatedAt(memberDto.updatedAt())
-                .build();
-    }
-
-    // 마스킹 메서드 재정의 (AdminMemberDto의 private 메서드와 동일하게 사용)
-    private String maskEmail(String email) {
-        if (email == null || email.length() < 3) return "***";
-        int atIndex = email.indexOf('@');
-        if (atIndex <= 1) return "***" + email.substring(atIndex);
-        return email.charAt(0) + "***" + email.substring(atIndex);
-    }
-
-    private String maskName(String name) {
-        if (name == null || name.length() < 2) return "**";
-        return name.charAt(0) + "*".repeat(name.length() - 1);
-    }
-
-    private String maskPhone(String phone) {
-        if (phone == null || phone.length() < 8) return "***-****-****";
-        if (phone.contains("-")) {
-            String[] parts = phone.split("-");
-            if (parts.length == 3) {
-                return parts[0] + "-****-" + parts[2];
-            }
-        }
-        return "***-****-****";
-    }
-
 }
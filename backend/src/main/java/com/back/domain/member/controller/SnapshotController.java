@@ -22,11 +22,12 @@ public class SnapshotController {
     private final MemberService memberService;
 
     @PostMapping("/save")
-    public RsData<?> saveSnapshot(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam Long totalAsset) {
+    public RsData<Long> saveSnapshot(@AuthenticationPrincipal CustomUserDetails userDetails) {
         Member member = Optional.ofNullable(userDetails.getMember())
                 .orElseThrow(() -> new IllegalStateException("인증된 사용자 정보가 없습니다."));
 
-        snapshotService.saveMonthlySnapshot(member, totalAsset);
+        // 총 자산은 클라이언트 값을 신뢰하지 않고 서버에서 계산
+        Long totalAsset = snapshotService.saveMonthlySnapshot(member);
         return new RsData<>("200-1", "스냅샷을 저장했습니다.", totalAsset);
     }
 
@@ -0,0 +1,24 @@
+package com.back.domain.member.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 관리자 회원 목록 커서 (id DESC 정렬의 마지막 회원 id)
+// 클라이언트에는 Base64 로 인코딩된 불투명 토큰으로만 노출한다.
+public record AdminMemberCursor(
+        int id
+) {
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AdminMemberCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new AdminMemberCursor(Integer.parseInt(raw));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
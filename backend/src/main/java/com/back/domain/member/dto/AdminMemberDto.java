@@ -28,8 +28,20 @@ public record AdminMemberDto(
                 .build();
     }
 
+    public static AdminMemberDto from(MemberResponseDto memberDto) {
+        return AdminMemberDto.builder()
+                .id(memberDto.id())
+                .maskedEmail(maskEmail(memberDto.email()))
+                .maskedName(maskName(memberDto.name()))
+                .maskedPhone(maskPhone(memberDto.phoneNumber()))
+                .status(memberDto.isActive() ? "ACTIVE" : "INACTIVE")
+                .createdAt(memberDto.createdAt())
+                .updatedAt(memberDto.updatedAt())
+                .build();
+    }
+
     // 이메일 마스킹: test@example.com -> t***@example.com
-    private static String maskEmail(String email) {
+    public static String maskEmail(String email) {
         if (email == null || email.length() < 3) return "***";
 
         int atIndex = email.indexOf('@');
@@ -39,13 +51,13 @@ public record AdminMemberDto(
     }
 
     // 이름 마스킹: 김철수 -> 김**
-    private static String maskName(String name) {
+    public static String maskName(String name) {
         if (name == null || name.length() < 2) return "**";
         return name.charAt(0) + "*".repeat(name.length() - 1);
     }
 
     // 전화번호 마스킹: 010-1234-5678 -> 010-****-5678
-    private static String maskPhone(String phone) {
+    public static String maskPhone(String phone) {
         if (phone == null || phone.length() < 8) return "***-****-****";
 
         // 010-1234-5678 형태라고 가정
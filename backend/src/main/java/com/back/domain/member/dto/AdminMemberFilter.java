@@ -0,0 +1,58 @@
+package com.back.domain.member.dto;
+
+import com.back.domain.member.entity.Member.MemberRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 관리자 회원 목록 필터 (null 이면 해당 조건 없음) - 회원 수 캐시의 키로도 사용
+// createdTo 는 해당 날짜를 포함하도록 다음 날 0시 미만으로 변환한다.
+public record AdminMemberFilter(
+        Boolean active,
+        MemberRole role,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {
+    public static AdminMemberFilter of(String status, String role, String createdFrom, String createdTo) {
+        return new AdminMemberFilter(
+                parseStatus(status),
+                parseRole(role),
+                parseDate(createdFrom, 0),
+                parseDate(createdTo, 1)
+        );
+    }
+
+    private static Boolean parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        return switch (status) {
+            case "ACTIVE" -> true;
+            case "INACTIVE" -> false;
+            default -> throw new IllegalArgumentException("유효하지 않은 회원 상태입니다: " + status);
+        };
+    }
+
+    private static MemberRole parseRole(String role) {
+        if (role == null || role.isEmpty()) {
+            return null;
+        }
+        try {
+            return MemberRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 회원 역할입니다: " + role);
+        }
+    }
+
+    private static LocalDateTime parseDate(String date, int plusDays) {
+        if (date == null || date.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date).plusDays(plusDays).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 날짜입니다(yyyy-MM-dd): " + date);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.back.domain.member.dto;
+
+import java.util.List;
+
+// 관리자 회원 목록 커서 페이지
+// nextCursor 를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회되고, totalCount 는 같은 필터의 전체 회원 수
+public record AdminMemberPageDto(
+        List<AdminMemberDto> content,
+        String nextCursor, // 다음 페이지가 없으면 null
+        boolean hasNext,
+        long totalCount
+) {
+    public static AdminMemberPageDto of(List<AdminMemberDto> content, String nextCursor, long totalCount) {
+        return new AdminMemberPageDto(content, nextCursor, nextCursor != null, totalCount);
+    }
+}
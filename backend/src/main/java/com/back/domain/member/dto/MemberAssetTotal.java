@@ -0,0 +1,8 @@
+package com.back.domain.member.dto;
+
+// 회원별 총 자산 (자산 가치 합 + 계좌 잔액 합)
+public record MemberAssetTotal(
+        Integer memberId,
+        Long totalAsset
+) {
+}
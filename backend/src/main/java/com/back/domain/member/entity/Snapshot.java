@@ -12,7 +12,14 @@ import static jakarta.persistence.FetchType.LAZY;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "asset_snapshot")
+@Table(
+        name = "asset_snapshot",
+        // 회원/연월당 한 행 - 스냅샷 저장은 이 키로 upsert 하고, 회원/연월 조회도 이 인덱스를 사용
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_snapshot_member_year_month",
+                columnNames = {"member_id", "asset_year", "asset_month"}
+        )
+)
 public class Snapshot extends BaseEntity {
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "member_id", nullable = false)
@@ -1,10 +1,13 @@
 package com.back.domain.member.repository;
 
 import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.Member.MemberRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,4 +54,35 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
     // 이메일로 회원 존재 여부 확인 (소프트 삭제된 회원 제외)
     boolean existsByEmailAndIsDeletedFalse(String email);
 
+    // 관리자 회원 목록 (id DESC keyset 페이지, 소프트 삭제된 회원 제외)
+    // null 인 조건은 무시하고, cursorId 가 있으면 그보다 작은 id 부터 limit 건 조회
+    @Query("SELECT m FROM Member m WHERE m.isDeleted = false AND " +
+           "(:active IS NULL OR m.isActive = :active) AND " +
+           "(:role IS NULL OR m.role = :role) AND " +
+           "(:createdFrom IS NULL OR m.createDate >= :createdFrom) AND " +
+           "(:createdTo IS NULL OR m.createDate < :createdTo) AND " +
+           "(:cursorId IS NULL OR m.id < :cursorId) " +
+           "ORDER BY m.id DESC")
+    List<Member> searchForAdmin(
+            @Param("active") Boolean active,
+            @Param("role") MemberRole role,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("cursorId") Integer cursorId,
+            Limit limit
+    );
+
+    // 관리자 회원 목록 필터의 전체 회원 수 (MemberCountCache 로 캐시)
+    @Query("SELECT COUNT(m) FROM Member m WHERE m.isDeleted = false AND " +
+           "(:active IS NULL OR m.isActive = :active) AND " +
+           "(:role IS NULL OR m.role = :role) AND " +
+           "(:createdFrom IS NULL OR m.createDate >= :createdFrom) AND " +
+           "(:createdTo IS NULL OR m.createDate < :createdTo)")
+    long countForAdmin(
+            @Param("active") Boolean active,
+            @Param("role") MemberRole role,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo
+    );
+
 }
@@ -1,8 +1,13 @@
 package com.back.domain.member.repository;
 
+import com.back.domain.member.dto.MemberAssetTotal;
 import com.back.domain.member.entity.Snapshot;
 import com.back.domain.member.entity.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +17,27 @@ public interface SnapshotRepository extends JpaRepository<Snapshot, Integer> {
     Optional<Snapshot> findByMemberAndYearAndMonth(Member member, int year, int month);
     List<Snapshot> findByMemberOrderByYearAscMonthAsc(Member member);
     List<Snapshot> findByMemberOrderByYearDescMonthDesc(Member member);
+
+    // 회원 id 순으로 afterId 이후 회원들의 총 자산을 한 번의 쿼리로 계산 (배치 청크 단위)
+    @Query("SELECT new com.back.domain.member.dto.MemberAssetTotal(m.id, " +
+           "COALESCE((SELECT SUM(a.assetValue) FROM Asset a WHERE a.member = m AND a.status = true), 0L) + " +
+           "COALESCE((SELECT SUM(ac.balance) FROM Account ac WHERE ac.member = m AND ac.isDeleted = false), 0L)) " +
+           "FROM Member m WHERE m.id > :afterId AND m.isDeleted = false ORDER BY m.id")
+    List<MemberAssetTotal> findMemberAssetTotals(@Param("afterId") int afterId, Limit limit);
+
+    // 회원 한 명의 총 자산
+    @Query("SELECT COALESCE((SELECT SUM(a.assetValue) FROM Asset a WHERE a.member.id = :memberId AND a.status = true), 0L) + " +
+           "COALESCE((SELECT SUM(ac.balance) FROM Account ac WHERE ac.member.id = :memberId AND ac.isDeleted = false), 0L) " +
+           "FROM Member m WHERE m.id = :memberId")
+    Long calculateTotalAsset(@Param("memberId") int memberId);
+
+    // 보관 기간이 지난 스냅샷 일괄 삭제 (연*12+월 이 cutoff 이하)
+    @Modifying
+    @Query("DELETE FROM Snapshot s WHERE (s.year * 12 + s.month) <= :cutoff")
+    int deleteOlderThan(@Param("cutoff") int cutoff);
+
+    // 특정 회원의 보관 기간이 지난 스냅샷 삭제
+    @Modifying
+    @Query("DELETE FROM Snapshot s WHERE s.member = :member AND (s.year * 12 + s.month) <= :cutoff")
+    int deleteOlderThan(@Param("member") Member member, @Param("cutoff") int cutoff);
 }
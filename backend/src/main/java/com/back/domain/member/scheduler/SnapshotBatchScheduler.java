@@ -0,0 +1,36 @@
+package com.back.domain.member.scheduler;
+
+import com.back.domain.member.service.SnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+// 전체 회원 월간 스냅샷 배치
+// 회원 id 순으로 청크를 나눠 청크마다 합계 쿼리 1회 + upsert 를 각각의 트랜잭션으로 처리하고,
+// 마지막에 보관 기간이 지난 스냅샷을 한 번에 삭제한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotBatchScheduler {
+
+    private final SnapshotService snapshotService;
+
+    @Scheduled(cron = "${snapshot.cron:0 0 3 * * *}")
+    public void snapshotAllMembers() {
+        YearMonth target = YearMonth.now();
+        long startedAt = System.currentTimeMillis();
+
+        int chunks = 0;
+        int lastMemberId = 0;
+        while ((lastMemberId = snapshotService.saveSnapshotChunk(lastMemberId, target)) > 0) {
+            chunks++;
+        }
+        snapshotService.deleteExpiredSnapshots(target);
+
+        log.info("월간 스냅샷 배치 완료 - 대상: {}, 청크: {}, 소요: {}ms",
+                target, chunks, System.currentTimeMillis() - startedAt);
+    }
+}
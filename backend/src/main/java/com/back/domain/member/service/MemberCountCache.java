@@ -0,0 +1,48 @@
+package com.back.domain.member.service;
+
+import com.back.domain.member.dto.AdminMemberFilter;
+import com.back.global.config.MemberCountCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+// 관리자 회원 목록의 필터별 전체 회원 수 캐시
+// COUNT 는 조건에 맞는 회원을 모두 세야 해서 페이지마다 실행하면 목록 조회보다 비싸다.
+// 회원 가입/탈퇴/상태 변경 시 전체를 비운다. (트랜잭션 중이면 커밋 후 한 번 더)
+@Component
+public class MemberCountCache {
+
+    private final Cache<AdminMemberFilter, Long> cache;
+
+    public MemberCountCache(MemberCountCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "memberCount");
+    }
+
+    public long get(AdminMemberFilter filter, Function<AdminMemberFilter, Long> loader) {
+        return cache.get(filter, loader);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+}
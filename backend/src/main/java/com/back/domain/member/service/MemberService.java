@@ -1,12 +1,18 @@
 package com.back.domain.member.service;
 
+import com.back.domain.member.dto.AdminMemberCursor;
+import com.back.domain.member.dto.AdminMemberDto;
+import com.back.domain.member.dto.AdminMemberFilter;
+import com.back.domain.member.dto.AdminMemberPageDto;
 import com.back.domain.member.dto.MemberRequestDto;
 import com.back.domain.member.dto.MemberResponseDto;
 import com.back.domain.member.dto.MemberUpdateDto;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
+import com.back.global.security.service.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,8 +29,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @Slf4j
 public class MemberService {
+    private static final int DEFAULT_ADMIN_PAGE_SIZE = 20;
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final MemberCountCache memberCountCache;
 
     //일반 서비스//
     public Optional<Member> findById(int id){
@@ -55,6 +66,7 @@ public class MemberService {
             
             // 데이터베이스 저장
             Member savedMember = memberRepository.save(member);
+            memberCountCache.evictAll();
             log.info("회원가입 성공: ID={}, 이메일={}", savedMember.getId(), savedMember.getEmail());
 
             return MemberResponseDto.from(savedMember);
@@ -88,6 +100,29 @@ public class MemberService {
                 .collect(Collectors.toList());
     }
 
+    // 관리자 회원 목록 (커서 기반 페이지네이션 + 필터)
+    // 마스킹은 반환하는 페이지의 회원에게만 적용하고, 전체 회원 수는 필터별로 캐시한다.
+    public AdminMemberPageDto getMembersForAdmin(AdminMemberFilter filter, String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_ADMIN_PAGE_SIZE : Math.min(size, MAX_ADMIN_PAGE_SIZE);
+        Integer cursorId = (cursor != null && !cursor.isEmpty())
+                ? AdminMemberCursor.decode(cursor).id()
+                : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Member> rows = memberRepository.searchForAdmin(
+                filter.active(), filter.role(), filter.createdFrom(), filter.createdTo(),
+                cursorId, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Member> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? new AdminMemberCursor(page.get(page.size() - 1).getId()).encode() : null;
+
+        long totalCount = memberCountCache.get(filter, f -> memberRepository.countForAdmin(
+                f.active(), f.role(), f.createdFrom(), f.createdTo()));
+
+        return AdminMemberPageDto.of(page.stream().map(AdminMemberDto::from).toList(), nextCursor, totalCount);
+    }
+
     // 회원 정보 수정
     @Transactional
     public MemberResponseDto updateMember(int memberId, MemberUpdateDto updateDto) {
@@ -95,6 +130,7 @@ public class MemberService {
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 회원입니다."));
 
         member.updateProfile(updateDto.name(), updateDto.phoneNumber());
+        principalCache.evict(member.getEmail());
 
         return MemberResponseDto.from(member);
     }
@@ -113,6 +149,7 @@ public class MemberService {
         // 비밀번호 암호화
         String encodedPassword = passwordEncoder.encode(newPassword);
         member.changePassword(encodedPassword);
+        principalCache.evict(member.getEmail());
 
         return MemberResponseDto.from(member);
     }
@@ -124,6 +161,8 @@ public class MemberService {
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 회원입니다."));
 
         memberRepository.delete(member);
+        principalCache.evict(member.getEmail());
+        memberCountCache.evictAll();
     }
 
     // 회원 소프트 삭제 (관리자 기능)
@@ -134,6 +173,8 @@ public class MemberService {
 
         member.softDelete();
         memberRepository.save(member);
+        principalCache.evict(member.getEmail());
+        memberCountCache.evictAll();
     }
 
     // 회원 비활성화 (관리자 기능)
@@ -143,6 +184,8 @@ public class MemberService {
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 회원입니다."));
 
         member.deactivate(); // 비활성화 메서드 호출
+        principalCache.evict(member.getEmail());
+        memberCountCache.evictAll();
 
         return MemberResponseDto.from(member);
     }
@@ -154,6 +197,8 @@ public class MemberService {
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 회원입니다."));
 
         member.activate(); // 활성화 메서드 호출
+        principalCache.evict(member.getEmail());
+        memberCountCache.evictAll();
 
         return MemberResponseDto.from(member);
     }
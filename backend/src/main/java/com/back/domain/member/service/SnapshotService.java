@@ -1,54 +1,98 @@
 package com.back.domain.member.service;
 
+import com.back.domain.member.dto.MemberAssetTotal;
 import com.back.domain.member.dto.SnapshotResponse;
 import com.back.domain.member.entity.Snapshot;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.SnapshotRepository;
+import com.back.global.config.SnapshotProperties;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
+@Timed("app.service")
 public class SnapshotService {
 
+    private static final String UPSERT_SNAPSHOT_SQL_PREFIX =
+            "INSERT INTO asset_snapshot (member_id, asset_year, asset_month, total_asset, create_date, modify_date) VALUES ";
+    private static final String UPSERT_SNAPSHOT_SQL_SUFFIX =
+            " ON DUPLICATE KEY UPDATE total_asset = VALUES(total_asset), modify_date = VALUES(modify_date)";
+
     private final SnapshotRepository snapshotRepository;
+    private final SnapshotProperties snapshotProperties;
+    private final JdbcTemplate jdbcTemplate;
 
+    // 회원의 이번 달 스냅샷 저장 (총 자산은 서버에서 계산)
     @Transactional
-    public void saveMonthlySnapshot(Member member, Long totalAsset) {
+    public Long saveMonthlySnapshot(Member member) {
         YearMonth now = YearMonth.now();
-        int year = now.getYear();
-        int month = now.getMonthValue();
-
-        Optional<Snapshot> optionalSnapshot = snapshotRepository.findByMemberAndYearAndMonth(member, year, month);
-
-        if (optionalSnapshot.isPresent()) {
-            Snapshot snapshot = optionalSnapshot.get();
-            snapshot.setTotalAsset(totalAsset);
-        } else {
-            Snapshot snapshot = Snapshot.builder()
-                    .member(member)
-                    .year(year)
-                    .month(month)
-                    .totalAsset(totalAsset)
-                    .build();
-            snapshotRepository.save(snapshot);
+        Long totalAsset = snapshotRepository.calculateTotalAsset(member.getId());
+
+        upsertSnapshots(List.of(new MemberAssetTotal(member.getId(), totalAsset)), now);
+
+        // 보관 기간 초과 삭제
+        snapshotRepository.deleteOlderThan(member, retentionCutoff(now));
+        return totalAsset;
+    }
+
+    // 배치: afterId 다음 회원부터 chunkSize 명의 총 자산을 한 번에 계산해 해당 월 스냅샷을 upsert
+    // 처리한 마지막 회원 id 를 반환하고, 더 처리할 회원이 없으면 -1 반환
+    @Transactional
+    public int saveSnapshotChunk(int afterId, YearMonth target) {
+        List<MemberAssetTotal> totals = snapshotRepository.findMemberAssetTotals(
+                afterId, Limit.of(snapshotProperties.getChunkSize()));
+        if (totals.isEmpty()) {
+            return -1;
         }
 
-        // 6개월 초과 삭제
-        List<Snapshot> snapshots = snapshotRepository.findByMemberOrderByYearAscMonthAsc(member);
-        if (snapshots.size() > 6) {
-            List<Snapshot> toDelete = snapshots.subList(0, snapshots.size() - 6);
-            snapshotRepository.deleteAll(toDelete);
+        upsertSnapshots(totals, target);
+
+        return totals.get(totals.size() - 1).memberId();
+    }
+
+    // 회원들의 해당 월 스냅샷을 한 문장으로 upsert (uk_snapshot_member_year_month 기준)
+    // 조회 후 INSERT 로 나누면 회원의 저장 요청과 야간 배치가 겹칠 때 같은 연월 행이 두 번 들어갈 수 있다.
+    // MySQL 과 H2(MODE=MySQL) 모두 지원하는 ON DUPLICATE KEY UPDATE 사용
+    private void upsertSnapshots(List<MemberAssetTotal> totals, YearMonth target) {
+        String sql = UPSERT_SNAPSHOT_SQL_PREFIX
+                + String.join(", ", Collections.nCopies(totals.size(), "(?, ?, ?, ?, ?, ?)"))
+                + UPSERT_SNAPSHOT_SQL_SUFFIX;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object> args = new ArrayList<>(totals.size() * 6);
+        for (MemberAssetTotal total : totals) {
+            Collections.addAll(args, total.memberId(), target.getYear(), target.getMonthValue(), total.totalAsset(), now, now);
         }
+        jdbcTemplate.update(sql, args.toArray());
     }
 
+    // 배치: 보관 기간이 지난 스냅샷을 한 번의 쿼리로 삭제
+    @Transactional
+    public int deleteExpiredSnapshots(YearMonth target) {
+        int deleted = snapshotRepository.deleteOlderThan(retentionCutoff(target));
+        log.info("보관 기간 지난 스냅샷 삭제 - {}건", deleted);
+        return deleted;
+    }
+
+    // target 기준 보관 개월 수 이전의 마지막 월 (연*12+월)
+    private int retentionCutoff(YearMonth target) {
+        return target.getYear() * 12 + target.getMonthValue() - snapshotProperties.getRetentionMonths();
+    }
 
     @Transactional(readOnly = true)
     public List<SnapshotResponse> getSnapshots(Member member) {
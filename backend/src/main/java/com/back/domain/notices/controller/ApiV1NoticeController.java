@@ -4,6 +4,8 @@ import com.back.domain.notices.dto.CreateNoticeRequestDto;
 import com.back.domain.notices.dto.DeleteNoticeRequestDto;
 import com.back.domain.notices.dto.NoticeResponseDto;
 import com.back.domain.notices.dto.UpdateNoticeRequestDto;
+import com.back.domain.notices.service.NoticeResponseCache;
+import com.back.domain.notices.service.NoticeResponseCache.CachedResponse;
 import com.back.domain.notices.service.NoticeService;
 import com.back.global.rsData.RsData;
 import com.back.global.security.jwt.CustomUserDetails;
@@ -11,47 +13,59 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/v1/notices")
 @RequiredArgsConstructor
 @Tag(name = "NoticeController", description = "공지사항 컨트롤러")
 public class ApiV1NoticeController {
+    private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+    private static final int DEFAULT_PAGE_SIZE = 5;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final NoticeService noticeService;
+    private final NoticeResponseCache noticeResponseCache;
 
+    // 조회 API 는 캐시된 JSON 을 그대로 내려보내고, If-None-Match / If-Modified-Since 가 맞으면 304 로 응답
     @GetMapping
     @Operation(summary = "공지사항 전체 조회 (검색 기능 + 페이징 포함)")
-    public RsData<Page<NoticeResponseDto>> getAllNotices(
+    public ResponseEntity<byte[]> getAllNotices(
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "5") int size) {
-        
-        Pageable pageable = PageRequest.of(page, size);
-        Page<NoticeResponseDto> notices = noticeService.getAllNotices(search, pageable);
 
-        return new RsData<>(
+        // 응답 캐시 키가 요청 값만큼 늘어나지 않도록 페이지/크기 범위를 맞춘다
+        int pageNumber = Math.max(page, 0);
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        CachedResponse response = noticeResponseCache.list(search, pageNumber, pageSize, () -> new RsData<>(
                 "200-1",
                 "공지사항 목록을 조회했습니다.",
-                notices
-        );
+                noticeService.getAllNotices(search, PageRequest.of(pageNumber, pageSize))
+        ));
+
+        return toResponseEntity(response);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "공지사항 단건 조회")
-    public RsData<NoticeResponseDto> getNoticeById(@PathVariable int id) {
-        NoticeResponseDto notice = noticeService.getNoticeById(id);
-
-        return new RsData<>(
+    public ResponseEntity<byte[]> getNoticeById(@PathVariable int id) {
+        CachedResponse response = noticeResponseCache.detail(id, () -> new RsData<>(
                 "200-1",
                 "공지사항을 조회했습니다.",
-                notice
-        );
+                noticeService.getNoticeById(id)
+        ));
+
+        return toResponseEntity(response);
     }
 
     @PostMapping
@@ -100,4 +114,14 @@ public class ApiV1NoticeController {
                 null
         );
     }
-} 
\ No newline at end of file
+
+    // no-cache: 브라우저가 저장은 하되 매번 검증자로 재검증하게 한다
+    private static ResponseEntity<byte[]> toResponseEntity(CachedResponse response) {
+        return ResponseEntity.ok()
+                .contentType(JSON_UTF8)
+                .eTag(response.eTag())
+                .lastModified(response.lastModified())
+                .cacheControl(CacheControl.noCache())
+                .body(response.body());
+    }
+}
\ No newline at end of file
@@ -15,15 +15,25 @@ public record NoticeResponseDto(
 ) {
 
     public static NoticeResponseDto from(Notice notice) {
+        return from(notice, 0);
+    }
+
+    // pendingViews: 아직 DB 에 반영되지 않은 조회수 (NoticeViewCounter)
+    public static NoticeResponseDto from(Notice notice, long pendingViews) {
+        int persistedViews = notice.getViews() != null ? notice.getViews() : 0;
         return new NoticeResponseDto(
             notice.getId(),
             notice.getTitle(),
             notice.getContent(),
-            notice.getViews(),
+            (int) (persistedViews + pendingViews),
             notice.getFileUrl(),
             notice.getMember() != null ? notice.getMember().getName() : "Unknown",
             notice.getCreateDate(),
             notice.getModifyDate()
         );
     }
-} 
\ No newline at end of file
+
+    public NoticeResponseDto withViews(int views) {
+        return new NoticeResponseDto(id, title, content, views, fileUrl, writerName, createDate, modifyDate);
+    }
+}
@@ -26,14 +26,12 @@ public class Notice extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String content;   // 글내용
 
-    @Column
+    // 조회수 - NoticeViewCounter 만 갱신한다. 엔티티 저장(공지 수정)이 읽어 둔 옛 값으로 덮어쓰지 않도록 UPDATE 에서 제외
+    @Column(updatable = false)
     private Integer views = 0;  // 조회수
 
     @Column
     private String fileUrl;   // 첨부파일
 
-    // 조회수 증가 메서드
-    public void incrementViews() {
-        this.views++;
-    }
+    // 조회수 증가는 NoticeViewCounter 가 모아서 배치 UPDATE 로 반영
 }
\ No newline at end of file
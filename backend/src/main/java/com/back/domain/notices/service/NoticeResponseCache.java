@@ -0,0 +1,174 @@
+package com.back.domain.notices.service;
+
+import com.back.domain.notices.dto.NoticeResponseDto;
+import com.back.global.config.NoticeResponseCacheProperties;
+import com.back.global.rsData.RsData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+// 공지사항 조회 응답 캐시 (직렬화된 JSON 바이트 + ETag/Last-Modified)
+// 캐시에 있으면 DB 조회와 직렬화 없이 바이트를 그대로 내려보낸다. 공지 생성/수정/삭제 시 전체를 비운다.
+// - 목록: 검색어 없는 앞쪽 페이지만 페이지/크기별로 캐시, 검증자는 본문 해시(약한 ETag)와 본문을 만든 시각
+//   조회수가 바뀐 본문은 TTL 후 다시 만들어지면 ETag 도 바뀐다. 검색 결과는 검색어 조합이 무한해 캐시하지 않는다.
+// - 단건: 공지별로 캐시, 검증자는 공지의 modifyDate
+//   조회수는 요청마다 바뀌므로 본문의 조회수 자리만 비워 두고, 응답 시 캐시 이후 증가분을 더해 채운다.
+@Component
+public class NoticeResponseCache {
+
+    private static final byte[] VIEWS_PLACEHOLDER =
+            ("\"views\":" + Integer.MIN_VALUE).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VIEWS_KEY = "\"views\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final NoticeViewCounter noticeViewCounter;
+    private final Cache<String, Entry> cache;
+    private final int maxCachedListPages;
+
+    private final AtomicLong version = new AtomicLong();
+
+    public NoticeResponseCache(NoticeResponseCacheProperties properties, ObjectMapper objectMapper,
+                               NoticeViewCounter noticeViewCounter, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.noticeViewCounter = noticeViewCounter;
+        this.maxCachedListPages = properties.getMaxCachedListPages();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "noticeResponse");
+    }
+
+    public record CachedResponse(byte[] body, String eTag, long lastModified) {
+    }
+
+    // 응답 본문 = prefix + 조회수 + suffix (목록은 prefix 가 본문 전체)
+    // viewsOffset: 단건 응답의 조회수 = viewsOffset + 누적 조회수
+    private record Entry(long version, byte[] prefix, byte[] suffix, long viewsOffset, String eTag, long lastModified) {
+    }
+
+    // 목록 응답 - page/size 는 호출 측에서 범위를 맞춘 값이어야 한다 (키 개수 상한)
+    public CachedResponse list(String search, int page, int size, Supplier<RsData<?>> loader) {
+        if ((search != null && !search.isBlank()) || page >= maxCachedListPages) {
+            byte[] body = serialize(loader.get());
+            return new CachedResponse(body, listETag(body), System.currentTimeMillis());
+        }
+
+        Entry entry = get("list|" + page + "|" + size, currentVersion -> {
+            byte[] body = serialize(loader.get());
+            return new Entry(currentVersion, body, new byte[0], 0, listETag(body), System.currentTimeMillis());
+        });
+        return new CachedResponse(entry.prefix(), entry.eTag(), entry.lastModified());
+    }
+
+    // 단건 응답 - 캐시 여부와 관계없이 조회수를 1 증가시킨다
+    // (캐시를 채우는 순간 다른 조회가 겹치면 조회수가 1 정도 어긋날 수 있음)
+    public CachedResponse detail(int noticeId, Supplier<RsData<NoticeResponseDto>> loader) {
+        Entry entry = get("detail|" + noticeId, currentVersion -> {
+            RsData<NoticeResponseDto> rsData = loader.get();
+            NoticeResponseDto notice = rsData.data();
+            long viewsOffset = notice.views() - noticeViewCounter.getRecorded(noticeId);
+
+            byte[] body = serialize(new RsData<>(rsData.resultCode(), rsData.msg(), notice.withViews(Integer.MIN_VALUE)));
+            int at = indexOf(body, VIEWS_PLACEHOLDER);
+            LocalDateTime modified = notice.modifyDate() != null ? notice.modifyDate() : notice.createDate();
+            long modifiedMillis = modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            // 조회수만 다른 본문은 같은 것으로 보므로 약한 ETag
+            String eTag = "W/\"n" + noticeId + "-" + modifiedMillis + "\"";
+
+            if (at < 0) {
+                // 조회수 자리를 못 찾으면(직렬화 형식 변경 등) 이번 조회수로 고정된 본문을 캐시
+                return new Entry(currentVersion, serialize(rsData), new byte[0], 0, eTag, modifiedMillis);
+            }
+            return new Entry(currentVersion,
+                    Arrays.copyOfRange(body, 0, at + VIEWS_KEY.length),
+                    Arrays.copyOfRange(body, at + VIEWS_PLACEHOLDER.length, body.length),
+                    viewsOffset, eTag, modifiedMillis);
+        });
+
+        noticeViewCounter.increment(noticeId);
+        if (entry.suffix().length == 0) {
+            return new CachedResponse(entry.prefix(), entry.eTag(), entry.lastModified());
+        }
+        long views = entry.viewsOffset() + noticeViewCounter.getRecorded(noticeId);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(entry.prefix().length + entry.suffix().length + 12);
+        out.writeBytes(entry.prefix());
+        out.writeBytes(Long.toString(views).getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(entry.suffix());
+        return new CachedResponse(out.toByteArray(), entry.eTag(), entry.lastModified());
+    }
+
+    // 공지 생성/수정/삭제 시 호출 - 즉시 비우고, 트랜잭션 중이면 끝난 뒤 한 번 더 비운다
+    public void invalidateAll() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    // 변경 도중에 채워진 항목은 버전이 달라 다시 만든다
+    private Entry get(String key, LongFunction<Entry> loader) {
+        long currentVersion = version.get();
+        Entry entry = cache.get(key, k -> loader.apply(currentVersion));
+        if (entry.version() != currentVersion) {
+            entry = loader.apply(currentVersion);
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+
+    // 목록 본문에는 조회수가 들어 있어 같은 버전이라도 본문이 달라질 수 있으므로 본문 해시로 만든다
+    private static String listETag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "W/\"l" + Long.toHexString(crc.getValue()) + "-" + body.length + "\"";
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("공지사항 응답 직렬화 실패", e);
+        }
+    }
+
+    private static int indexOf(byte[] body, byte[] target) {
+        outer:
+        for (int i = 0; i <= body.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (body[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,190 @@
+package com.back.domain.notices.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공지사항 제목/내용 검색용 메모리 역색인
+// 띄어쓰기 단위로 나눈 단어를 2-gram 으로 쪼개 색인한다. (한국어는 형태소 분석 없이도 부분 일치가 잘 됨)
+// 검색어의 모든 2-gram 을 포함하는 공지만 후보로 하고, 제목 일치에 가중치를 준 점수 순으로 정렬한다.
+// 시작 시 DB 에서 전체를 다시 만들고, 공지 생성/수정/삭제 시 해당 공지만 갱신한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NoticeSearchIndex {
+
+    private static final int TITLE_WEIGHT = 5;
+    private static final String LOAD_SQL = "SELECT id, title, content FROM notice";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (공지 id -> 점수)
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+
+    // 공지 id -> 색인된 term (수정/삭제 시 postings 에서 빼기 위함)
+    private final Map<Integer, Set<String>> termsByNotice = new HashMap<>();
+
+    // 애플리케이션 준비 후(초기 데이터 생성 이후) 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByNotice.clear();
+            jdbcTemplate.query(LOAD_SQL, rs -> addLocked(rs.getInt("id"), rs.getString("title"), rs.getString("content")));
+
+            log.info("공지사항 검색 색인 구성 완료 - 공지: {}건, term: {}개, 소요: {}ms",
+                    termsByNotice.size(), postings.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 공지 생성/수정 시 해당 공지를 다시 색인
+    public void index(int noticeId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(noticeId);
+            addLocked(noticeId, title, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int noticeId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(noticeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어와 일치하는 공지 id 를 점수 내림차순(같으면 최신 id 순)으로 반환
+    public List<Integer> search(String query) {
+        List<String> queryTerms = new ArrayList<>(tokenize(query));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> scores = null;
+            for (String term : queryTerms) {
+                Map<Integer, Integer> hits = term.length() == 1 ? singleCharHits(term) : postings.get(term);
+                if (hits == null || hits.isEmpty()) {
+                    return List.of();
+                }
+                scores = scores == null ? new HashMap<>(hits) : intersect(scores, hits);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(int noticeId, String title, String content) {
+        Map<String, Integer> scores = new HashMap<>();
+        tokenize(title).forEach(term -> scores.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(content).forEach(term -> scores.merge(term, 1, Integer::sum));
+
+        scores.forEach((term, score) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(noticeId, score));
+        termsByNotice.put(noticeId, scores.keySet());
+    }
+
+    private void removeLocked(int noticeId) {
+        Set<String> terms = termsByNotice.remove(noticeId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Integer, Integer> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(noticeId);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // 한 글자 검색어는 그 글자를 포함하는 모든 term 의 합집합
+    private Map<Integer, Integer> singleCharHits(String ch) {
+        Map<Integer, Integer> hits = new HashMap<>();
+        postings.forEach((term, ids) -> {
+            if (term.contains(ch)) {
+                ids.forEach((id, score) -> hits.merge(id, score, Integer::sum));
+            }
+        });
+        return hits;
+    }
+
+    private static Map<Integer, Integer> intersect(Map<Integer, Integer> scores, Map<Integer, Integer> hits) {
+        Map<Integer, Integer> result = new HashMap<>();
+        scores.forEach((id, score) -> {
+            Integer hit = hits.get(id);
+            if (hit != null) {
+                result.put(id, score + hit);
+            }
+        });
+        return result;
+    }
+
+    // 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 단어를 나누고, 단어마다 2-gram (한 글자 단어는 그대로)
+    // 검색어에도 같은 규칙을 적용하며, 순서를 유지하고 중복은 한 번만 반환한다.
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                addWord(normalized.substring(wordStart, i), terms);
+                wordStart = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addWord(String word, Set<String> terms) {
+        if (word.length() == 1) {
+            terms.add(word);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            terms.add(word.substring(i, i + 2));
+        }
+    }
+}
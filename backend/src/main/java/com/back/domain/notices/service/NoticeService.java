@@ -9,15 +9,27 @@ import com.back.domain.member.entity.Member;
 import com.back.domain.member.entity.Member.MemberRole;
 import com.back.domain.notices.dto.UpdateNoticeRequestDto;
 import com.back.domain.notices.dto.DeleteNoticeRequestDto;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class NoticeService {
     private final NoticeRepository noticeRepository;
+    private final NoticeViewCounter noticeViewCounter;
+    private final NoticeSearchIndex noticeSearchIndex;
+    private final NoticeResponseCache noticeResponseCache;
 
     public NoticeResponseDto createNotice(CreateNoticeRequestDto dto, Member member) {
         // 관리자 권한 확인
@@ -36,31 +48,50 @@ public class NoticeService {
 
         // 저장
         Notice savedNotice = noticeRepository.save(notice);
+        noticeSearchIndex.index(savedNotice.getId(), savedNotice.getTitle(), savedNotice.getContent());
+        noticeResponseCache.invalidateAll();
 
         // NoticeResponseDto로 변환하여 반환
         return NoticeResponseDto.from(savedNotice);
     }
 
+    @Transactional(readOnly = true)
     public Page<NoticeResponseDto> getAllNotices(String search, Pageable pageable) {
-        Page<Notice> notices;
-        
         if (search != null && !search.trim().isEmpty()) {
-            // 검색어가 있으면 제목으로만 검색 (페이징 적용)
-            notices = noticeRepository.findByTitleContainingIgnoreCase(search.trim(), pageable);
-        } else {
-            // 검색어가 없으면 전체 조회 (페이징 적용)
-            notices = noticeRepository.findAll(pageable);
+            // 검색어가 있으면 제목+내용 색인으로 검색 (관련도 순)
+            return searchNotices(search.trim(), pageable);
         }
-        
-        return notices.map(NoticeResponseDto::from);
+
+        // 검색어가 없으면 전체 조회 (페이징 적용)
+        return noticeRepository.findAll(pageable)
+                .map(notice -> NoticeResponseDto.from(notice, noticeViewCounter.getPending(notice.getId())));
+    }
+
+    // 색인에서 순위대로 id 를 얻고, 요청한 페이지의 공지만 DB 에서 조회
+    private Page<NoticeResponseDto> searchNotices(String search, Pageable pageable) {
+        List<Integer> hits = noticeSearchIndex.search(search);
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Integer> pageIds = hits.subList(from, to);
+
+        Map<Integer, Notice> notices = noticeRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Notice::getId, Function.identity()));
+
+        List<NoticeResponseDto> content = pageIds.stream()
+                .filter(notices::containsKey) // 색인 반영 후 롤백된 공지는 제외
+                .map(id -> NoticeResponseDto.from(notices.get(id), noticeViewCounter.getPending(id)))
+                .toList();
+
+        return new PageImpl<>(content, pageable, hits.size());
     }
 
+    // 조회수 증가는 NoticeResponseCache 가 요청마다 처리 (여기서는 캐시를 채울 때만 호출됨)
+    @Transactional(readOnly = true)
     public NoticeResponseDto getNoticeById(int id) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
-        notice.incrementViews();
-        noticeRepository.save(notice);
-        return NoticeResponseDto.from(notice);
+        return NoticeResponseDto.from(notice, noticeViewCounter.getPending(id));
     }
 
     public NoticeResponseDto updateNotice(int id, UpdateNoticeRequestDto dto, Member member) {
@@ -86,9 +117,11 @@ public class NoticeService {
 
         // 4. 데이터베이스에 저장
         Notice updatedNotice = noticeRepository.save(notice);
+        noticeSearchIndex.index(updatedNotice.getId(), updatedNotice.getTitle(), updatedNotice.getContent());
+        noticeResponseCache.invalidateAll();
 
         // 5. DTO로 변환하여 반환
-        return NoticeResponseDto.from(updatedNotice);
+        return NoticeResponseDto.from(updatedNotice, noticeViewCounter.getPending(id));
     }
 
     public void deleteNotice(DeleteNoticeRequestDto dto, Member member) {
@@ -103,5 +136,8 @@ public class NoticeService {
 
         // 3. 데이터베이스에서 삭제
         noticeRepository.delete(notice);
+        noticeViewCounter.discard(notice.getId());
+        noticeSearchIndex.remove(notice.getId());
+        noticeResponseCache.invalidateAll();
     }    
 } 
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.back.domain.notices.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 공지사항 조회수 write-behind 카운터
+// 조회 시에는 메모리의 카운터만 증가시키고, 쌓인 증가분은 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+// 인기 공지라도 조회마다 같은 행에 쓰기가 몰리지 않는다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NoticeViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE notice SET views = COALESCE(views, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 공지 id 별 아직 DB 에 커밋되지 않은 조회수
+    // waiting: 다음 반영을 기다리는 증가분, inFlight: 반영 중(커밋 전)인 증가분
+    // 반영 중인 증가분도 커밋될 때까지 getPending 에 포함해야 조회수가 잠깐 줄어 보이지 않는다.
+    // 두 값을 한 항목에 두고 merge/compute 로 원자적으로 옮기며, 둘 다 0 이 된 항목은 맵에서 바로 지운다.
+    private final ConcurrentHashMap<Integer, Delta> pending = new ConcurrentHashMap<>();
+
+    private record Delta(long waiting, long inFlight) {
+        Delta plus(Delta other) {
+            return of(waiting + other.waiting, inFlight + other.inFlight);
+        }
+
+        static Delta of(long waiting, long inFlight) {
+            return waiting == 0 && inFlight == 0 ? null : new Delta(waiting, inFlight);
+        }
+    }
+
+    // 공지 id 별 기동 후 누적 조회수 (반영해도 줄지 않음 - NoticeResponseCache 가 캐시 이후 증가분 계산에 사용)
+    private final ConcurrentHashMap<Integer, LongAdder> recorded = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가
+    public void increment(int noticeId) {
+        pending.merge(noticeId, new Delta(1, 0), Delta::plus);
+        recorded.computeIfAbsent(noticeId, id -> new LongAdder()).increment();
+    }
+
+    // 기동 후 누적 조회수
+    public long getRecorded(int noticeId) {
+        LongAdder adder = recorded.get(noticeId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 아직 커밋되지 않은 조회수 (반영 중인 증가분 포함)
+    public long getPending(int noticeId) {
+        Delta delta = pending.get(noticeId);
+        return delta == null ? 0 : delta.waiting() + delta.inFlight();
+    }
+
+    // 삭제된 공지의 대기 중인 조회수 폐기
+    public void discard(int noticeId) {
+        pending.remove(noticeId);
+        recorded.remove(noticeId);
+    }
+
+    // 쌓인 증가분을 DB 에 반영
+    // 읽은 만큼만 반영 중으로 옮기므로, 반영 중에 들어온 조회는 다음 주기로 넘어간다.
+    // 반영 중인 증가분은 커밋된 뒤에야 지우고, 반영되지 않은 행은 다시 대기로 돌린다.
+    @Scheduled(fixedDelayString = "${notice.view-flush-interval:5s}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Map.Entry<Integer, Long>> drained = new ArrayList<>();
+
+        for (Integer noticeId : pending.keySet()) {
+            long[] moved = new long[1];
+            pending.computeIfPresent(noticeId, (id, delta) -> {
+                moved[0] = delta.waiting();
+                return Delta.of(0, delta.inFlight() + delta.waiting());
+            });
+            if (moved[0] > 0) {
+                batchArgs.add(new Object[]{moved[0], noticeId});
+                drained.add(Map.entry(noticeId, moved[0]));
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        int[] updateCounts;
+        try {
+            updateCounts = transactionTemplate.execute(status -> batchUpdate(batchArgs));
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되어 아무 행도 반영되지 않았으므로 전부 대기로 되돌림
+            drained.forEach(entry -> settle(entry.getKey(), entry.getValue(), false));
+            log.warn("공지사항 조회수 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+
+        // 커밋됨 - 반영된 행은 반영 중에서 지우고, 배치 일부만 실패한 경우 반영되지 않은 행만 대기로 되돌림
+        // (반영된 행을 다시 더하면 조회수가 중복 집계됨)
+        // 0 건 갱신은 그 사이 삭제된 공지이므로 버린다.
+        int retried = 0;
+        for (int i = 0; i < drained.size(); i++) {
+            Map.Entry<Integer, Long> entry = drained.get(i);
+            boolean failed = i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED;
+            settle(entry.getKey(), entry.getValue(), !failed);
+            if (failed) {
+                retried++;
+            }
+        }
+
+        if (retried > 0) {
+            log.warn("공지사항 조회수 일부 반영 실패 - 공지 {}건은 다음 주기에 재시도", retried);
+        } else {
+            log.debug("공지사항 조회수 반영 - 공지 {}건", batchArgs.size());
+        }
+    }
+
+    // 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 반영 중인 증가분 정리 - 커밋되었으면 지우고, 아니면 대기로 되돌린다 (둘 다 0 이 되면 항목 제거)
+    private void settle(int noticeId, long amount, boolean committed) {
+        pending.computeIfPresent(noticeId, (id, delta) -> Delta.of(
+                committed ? delta.waiting() : delta.waiting() + amount,
+                delta.inFlight() - amount));
+    }
+
+    // 일부 행이 실패해도 성공한 행은 커밋되도록 BatchUpdateException 을 받아 행별 결과를 돌려준다
+    private int[] batchUpdate(List<Object[]> batchArgs) {
+        try {
+            return jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof BatchUpdateException batchFailure) {
+                log.warn("공지사항 조회수 배치 일부 실패: {}", batchFailure.getMessage());
+                return batchFailure.getUpdateCounts();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.back.domain.portfolio.controller;
+
+import com.back.domain.portfolio.dto.PortfolioSummaryDto;
+import com.back.domain.portfolio.service.PortfolioService;
+import com.back.global.rsData.RsData;
+import com.back.global.security.jwt.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/portfolio")
+@Tag(name = "Portfolio", description = "포트폴리오 컨트롤러")
+public class ApiV1PortfolioController {
+    private final PortfolioService portfolioService;
+
+    // 순자산 요약 (클라이언트에서 자산/계좌 목록을 받아 합산하지 않도록 서버에서 집계)
+    @GetMapping("/summary")
+    @Operation(summary = "순자산 요약", description = "자산 유형별/계좌 합계와 비중")
+    public RsData<PortfolioSummaryDto> getSummary(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        int memberId = userDetails.getMember().getId();
+
+        PortfolioSummaryDto summary = portfolioService.getSummary(memberId);
+        return new RsData<>("200-1", "%d번 사용자의 순자산 요약을 조회했습니다.".formatted(memberId), summary);
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.domain.portfolio.dto;
+
+public record PortfolioAllocationDto(
+        String category, // DEPOSIT, STOCK, REAL_ESTATE, ACCOUNT
+        long amount,
+        long count,
+        double percentage // 전체 대비 비중 (%, 소수 둘째 자리)
+) {
+}
@@ -0,0 +1,11 @@
+package com.back.domain.portfolio.dto;
+
+// 분류별 합계 (네이티브 집계 쿼리 결과 프로젝션)
+// category 는 자산이면 AssetType 이름, 계좌면 ACCOUNT
+public interface PortfolioCategoryTotal {
+    String getCategory();
+
+    Long getAmount();
+
+    Long getItemCount();
+}
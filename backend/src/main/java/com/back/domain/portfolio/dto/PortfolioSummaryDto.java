@@ -0,0 +1,11 @@
+package com.back.domain.portfolio.dto;
+
+import java.util.List;
+
+public record PortfolioSummaryDto(
+        long totalAmount,   // 순자산 (자산 + 계좌 잔액)
+        long assetAmount,   // 자산 가치 합계
+        long accountAmount, // 계좌 잔액 합계
+        List<PortfolioAllocationDto> allocations // 금액 큰 순
+) {
+}
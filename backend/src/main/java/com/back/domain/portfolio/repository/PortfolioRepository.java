@@ -0,0 +1,24 @@
+package com.back.domain.portfolio.repository;
+
+import com.back.domain.asset.entity.Asset;
+import com.back.domain.portfolio.dto.PortfolioCategoryTotal;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PortfolioRepository extends Repository<Asset, Integer> {
+
+    // 회원의 자산(유형별)과 미삭제 계좌 잔액 합계를 한 번의 집계 쿼리로 조회
+    // 엔티티를 읽지 않고 DB 에서 합계만 받아온다. (enum 컬럼을 문자열로 맞추려고 CONCAT 사용)
+    @Query(value = "SELECT CONCAT(a.asset_type, '') AS category, " +
+                   "COALESCE(SUM(a.asset_value), 0) AS amount, COUNT(*) AS itemCount " +
+                   "FROM asset a WHERE a.member_id = :memberId AND a.status = TRUE " +
+                   "GROUP BY a.asset_type " +
+                   "UNION ALL " +
+                   "SELECT 'ACCOUNT', COALESCE(SUM(ac.balance), 0), COUNT(*) " +
+                   "FROM account ac WHERE ac.user_id = :memberId AND ac.is_deleted = FALSE",
+           nativeQuery = true)
+    List<PortfolioCategoryTotal> sumByCategory(@Param("memberId") int memberId);
+}
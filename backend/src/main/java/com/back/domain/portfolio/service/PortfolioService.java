@@ -0,0 +1,62 @@
+package com.back.domain.portfolio.service;
+
+import com.back.domain.portfolio.dto.PortfolioAllocationDto;
+import com.back.domain.portfolio.dto.PortfolioCategoryTotal;
+import com.back.domain.portfolio.dto.PortfolioSummaryDto;
+import com.back.domain.portfolio.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PortfolioService {
+    private static final String ACCOUNT_CATEGORY = "ACCOUNT";
+
+    private final PortfolioRepository portfolioRepository;
+
+    // 순자산 요약 (총액, 분류별 금액과 비중)
+    @Transactional(readOnly = true)
+    public PortfolioSummaryDto getSummary(int memberId) {
+        // 계좌가 없어도 계좌 행은 건수 0으로 항상 한 줄 나오므로 걸러낸다
+        List<PortfolioCategoryTotal> totals = portfolioRepository.sumByCategory(memberId).stream()
+                .filter(t -> t.getItemCount() != null && t.getItemCount() > 0)
+                .toList();
+
+        long accountAmount = totals.stream()
+                .filter(t -> ACCOUNT_CATEGORY.equals(t.getCategory()))
+                .mapToLong(PortfolioService::amountOf)
+                .sum();
+        long totalAmount = totals.stream().mapToLong(PortfolioService::amountOf).sum();
+
+        List<PortfolioAllocationDto> allocations = totals.stream()
+                .map(t -> new PortfolioAllocationDto(
+                        t.getCategory(),
+                        amountOf(t),
+                        t.getItemCount(),
+                        percentage(amountOf(t), totalAmount)))
+                .sorted(Comparator.comparingLong(PortfolioAllocationDto::amount).reversed())
+                .toList();
+
+        return new PortfolioSummaryDto(totalAmount, totalAmount - accountAmount, accountAmount, allocations);
+    }
+
+    private static long amountOf(PortfolioCategoryTotal total) {
+        return total.getAmount() == null ? 0L : total.getAmount();
+    }
+
+    private static double percentage(long amount, long total) {
+        if (total == 0) {
+            return 0;
+        }
+        return BigDecimal.valueOf(amount)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
@@ -4,19 +4,29 @@ import com.back.domain.account.entity.Account;
 import com.back.domain.member.entity.Member;
 import com.back.domain.transactions.dto.AccountTransactionDto;
 import com.back.domain.transactions.dto.CreateAccTracRequestDto;
+import com.back.domain.transactions.dto.ExportFormat;
+import com.back.domain.transactions.dto.TransactionImportResultDto;
 import com.back.domain.transactions.dto.TransactionDto;
+import com.back.domain.transactions.dto.TransactionMonthlySummaryDto;
 import com.back.domain.transactions.entity.AccountTransaction;
 import com.back.domain.transactions.service.AccountTransactionService;
+import com.back.domain.transactions.service.TransactionExportService;
+import com.back.domain.transactions.service.TransactionImportService;
 import com.back.global.rsData.RsData;
 import com.back.global.security.jwt.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -27,6 +37,8 @@ import java.util.NoSuchElementException;
 @Tag(name = "AccountTransactions", description = "거래(계좌) 컨트롤러")
 public class ApiV1AccountTransactionController {
     private final AccountTransactionService acctTransactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
 
     // 거래 등록
     @PostMapping
@@ -85,4 +97,48 @@ public class ApiV1AccountTransactionController {
         Map<Integer, List<AccountTransactionDto>> result = acctTransactionService.findAccTransactionsByAccountIds(ids);
         return new RsData<>("200-1", "계좌 거래를 일괄 조회했습니다.", result);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/summary/bulk")
+    @Operation(summary = "계좌 월간 거래 집계 일괄 조회", description = "계좌별·월별 ADD/REMOVE 합계와 건수를 조회합니다.")
+    public RsData<Map<Integer, List<TransactionMonthlySummaryDto>>> getMonthlySummariesBulk(@RequestParam List<Integer> ids) {
+        Map<Integer, List<TransactionMonthlySummaryDto>> result = acctTransactionService.findMonthlySummariesByAccountIds(ids);
+        return new RsData<>("200-1", "계좌 월간 거래 집계를 조회했습니다.", result);
+    }
+
+    // 거래 내역 내보내기 (전체 내역을 메모리에 올리지 않고 스트리밍)
+    @GetMapping("/export")
+    @Operation(summary = "계좌 거래 내역 내보내기", description = "format=csv 또는 ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        int memberId = userDetails.getMember().getId();
+
+        StreamingResponseBody body = out -> transactionExportService.exportAccountTransactions(memberId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("account-transactions." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    // 거래 내역 일괄 가져오기 (Content-Type: text/csv 또는 application/json 배열)
+    // 잘못된 행은 건너뛰고 응답의 errors 에 행 번호와 사유를 담는다.
+    @PostMapping("/{accountId}/import")
+    @Operation(summary = "계좌 거래 내역 일괄 가져오기", description = "CSV 헤더 또는 JSON 필드: type, amount, content, date")
+    public RsData<TransactionImportResultDto> importTransactions(
+            @PathVariable int accountId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        TransactionImportResultDto result = transactionImportService.importAccountTransactions(
+                accountId, userDetails.getMember(), MediaType.parseMediaType(contentType), body);
+
+        return new RsData<>("200-1", "거래 %d건을 가져왔습니다. (실패 %d건)".formatted(result.importedRows(), result.failedRows()), result);
+    }
+}
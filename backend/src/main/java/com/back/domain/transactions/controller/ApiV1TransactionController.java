@@ -1,17 +1,31 @@
 package com.back.domain.transactions.controller;
 
 import com.back.domain.transactions.dto.CreateTransactionRequestDto;
+import com.back.domain.transactions.dto.ExportFormat;
+import com.back.domain.transactions.dto.TransactionImportResultDto;
 import com.back.domain.transactions.dto.TransactionDto;
+import com.back.domain.transactions.dto.TransactionMonthlySummaryDto;
 import com.back.domain.transactions.dto.UpdateTransactionRequestDto;
 import com.back.domain.transactions.entity.Transaction;
+import com.back.domain.transactions.service.TransactionExportService;
+import com.back.domain.transactions.service.TransactionImportService;
 import com.back.domain.transactions.service.TransactionService;
+import com.back.global.dto.CursorPageDto;
 import com.back.global.rsData.RsData;
+import com.back.global.security.jwt.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -22,6 +36,8 @@ import java.util.NoSuchElementException;
 @Tag(name = "Transactions", description = "거래 컨트롤러")
 public class ApiV1TransactionController {
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
 
     // 거래 등록
     @PostMapping
@@ -80,10 +96,71 @@ public class ApiV1TransactionController {
         return new RsData<>("200-1", assetId + "번 자산의 거래 목록을 조회했습니다.", transactionDtos);
     }
 
+    // 거래 검색 (커서 기반 페이지네이션)
+    @GetMapping("/search")
+    @Operation(summary = "거래 검색 및 필터링", description = "응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+    public RsData<CursorPageDto<TransactionDto>> searchTransactions(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) Integer minAmount,
+            @RequestParam(required = false) Integer maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageDto<TransactionDto> result = transactionService.searchTransactions(
+                type, startDate, endDate, minAmount, maxAmount, cursor, size);
+        return new RsData<>("200-1", "거래를 검색했습니다.", result);
+    }
+
     @GetMapping("/search/bulk")
     @Operation(summary = "자산 거래 목록 일괄 조회")
     public RsData<Map<Integer, List<TransactionDto>>> getTransactionsBulk(@RequestParam List<Integer> ids) {
         Map<Integer, List<TransactionDto>> result = transactionService.findTransactionsByAssetIds(ids);
         return new RsData<>("200-1", "자산 거래를 일괄 조회했습니다.", result);
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/summary/bulk")
+    @Operation(summary = "자산 월간 거래 집계 일괄 조회", description = "자산별·월별 ADD/REMOVE 합계와 건수를 조회합니다.")
+    public RsData<Map<Integer, List<TransactionMonthlySummaryDto>>> getMonthlySummariesBulk(@RequestParam List<Integer> ids) {
+        Map<Integer, List<TransactionMonthlySummaryDto>> result = transactionService.findMonthlySummariesByAssetIds(ids);
+        return new RsData<>("200-1", "자산 월간 거래 집계를 조회했습니다.", result);
+    }
+
+    // 거래 내역 내보내기 (전체 내역을 메모리에 올리지 않고 스트리밍)
+    @GetMapping("/export")
+    @Operation(summary = "자산 거래 내역 내보내기", description = "format=csv 또는 ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        int memberId = userDetails.getMember().getId();
+
+        StreamingResponseBody body = out -> transactionExportService.exportTransactions(memberId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    // 거래 내역 일괄 가져오기 (Content-Type: text/csv 또는 application/json 배열)
+    // 잘못된 행은 건너뛰고 응답의 errors 에 행 번호와 사유를 담는다.
+    @PostMapping("/{assetId}/import")
+    @Operation(summary = "자산 거래 내역 일괄 가져오기", description = "CSV 헤더 또는 JSON 필드: type, amount, content, date")
+    public RsData<TransactionImportResultDto> importTransactions(
+            @PathVariable int assetId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        TransactionImportResultDto result = transactionImportService.importTransactions(
+                assetId, userDetails.getMember(), MediaType.parseMediaType(contentType), body);
+
+        return new RsData<>("200-1", "거래 %d건을 가져왔습니다. (실패 %d건)".formatted(result.importedRows(), result.failedRows()), result);
+    }
+}
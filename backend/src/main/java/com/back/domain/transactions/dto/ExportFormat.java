@@ -0,0 +1,23 @@
+package com.back.domain.transactions.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 거래 내역 내보내기 형식
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        try {
+            return ExportFormat.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.back.domain.transactions.dto;
+
+import com.back.domain.transactions.entity.TransactionType;
+
+// 원본 거래 GROUP BY 결과 한 행 (대상, 연, 월, 유형별 합계/건수)
+public record MonthlyAggregateRow(
+        Integer targetId,
+        Integer year,
+        Integer month,
+        TransactionType type,
+        Long amount,
+        Long count
+) {
+}
@@ -0,0 +1,16 @@
+package com.back.domain.transactions.dto;
+
+import java.util.List;
+
+// 거래 가져오기 결과
+public record TransactionImportResultDto(
+        int totalRows,
+        int importedRows,
+        int failedRows,
+        List<RowError> errors, // 최대 transaction-import.max-reported-errors 건
+        boolean errorsTruncated
+) {
+    // row 는 데이터 기준 1부터 (CSV 헤더 제외)
+    public record RowError(int row, String message) {
+    }
+}
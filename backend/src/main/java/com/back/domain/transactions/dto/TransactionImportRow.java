@@ -0,0 +1,15 @@
+package com.back.domain.transactions.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// 가져오기 원본 행 (CSV 한 줄 또는 JSON 배열의 원소)
+// 행 단위로 오류를 보고하기 위해 값은 문자열 그대로 받고 검증은 서비스에서 한다.
+// 내보내기 결과의 id, assetId 등 나머지 컬럼은 무시된다.
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TransactionImportRow(
+        String type,
+        String amount,
+        String content,
+        String date
+) {
+}
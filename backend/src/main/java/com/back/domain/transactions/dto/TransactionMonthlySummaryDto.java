@@ -0,0 +1,27 @@
+package com.back.domain.transactions.dto;
+
+import com.back.domain.transactions.entity.TransactionMonthlySummary;
+
+public record TransactionMonthlySummaryDto(
+        int targetId,
+        int year,
+        int month,
+        long addAmount,
+        long addCount,
+        long removeAmount,
+        long removeCount,
+        long netAmount // addAmount - removeAmount
+) {
+    public TransactionMonthlySummaryDto(TransactionMonthlySummary summary) {
+        this(
+                summary.getTargetId(),
+                summary.getYear(),
+                summary.getMonth(),
+                summary.getAddAmount(),
+                summary.getAddCount(),
+                summary.getRemoveAmount(),
+                summary.getRemoveCount(),
+                summary.getAddAmount() - summary.getRemoveAmount()
+        );
+    }
+}
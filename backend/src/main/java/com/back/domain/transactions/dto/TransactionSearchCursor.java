@@ -0,0 +1,39 @@
+package com.back.domain.transactions.dto;
+
+import com.back.domain.transactions.entity.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 거래 검색 커서 (date DESC, id DESC 정렬의 마지막 행 위치)
+// 클라이언트에는 Base64 로 인코딩된 불투명 토큰으로만 노출한다.
+public record TransactionSearchCursor(
+        LocalDateTime date,
+        int id
+) {
+    private static final String DELIMITER = "|";
+
+    public static TransactionSearchCursor from(Transaction transaction) {
+        return new TransactionSearchCursor(transaction.getDate(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = date + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new TransactionSearchCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Integer.parseInt(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
@@ -12,6 +12,10 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 계좌별 거래 목록 / 기간 조회
+        @Index(name = "idx_account_transaction_account_date", columnList = "account_id, date")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -13,6 +13,12 @@ import java.time.LocalDateTime;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = {
+        // 자산별 거래 목록 / 기간 조회
+        @Index(name = "idx_transaction_asset_date", columnList = "asset_id, date"),
+        // 거래 검색 커서 페이지네이션 - 조회 정렬(date DESC, id DESC)과 같은 방향이어야 정렬 없이 읽는다
+        @Index(name = "idx_transaction_date_id", columnList = "date DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,56 @@
+package com.back.domain.transactions.entity;
+
+import com.back.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 자산/계좌별 월간 거래 집계 (롤업)
+// 거래 생성/수정/삭제와 같은 트랜잭션 안에서 증분 갱신되며, 합계 조회 시 원본 거래를 다시 읽지 않는다.
+@Entity
+@Table(
+        name = "transaction_monthly_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_tx_summary_target_month",
+                columnNames = {"target_type", "target_id", "summary_year", "summary_month"}
+        )
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionMonthlySummary extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 10)
+    private SummaryTarget targetType; // 집계 대상 구분
+
+    @Column(name = "target_id", nullable = false)
+    private int targetId; // 자산 id 또는 계좌 id
+
+    @Column(name = "summary_year", nullable = false)
+    private int year;
+
+    @Column(name = "summary_month", nullable = false)
+    private int month;
+
+    private long addAmount;    // ADD 거래 합계
+    private long addCount;     // ADD 거래 건수
+    private long removeAmount; // REMOVE 거래 합계
+    private long removeCount;  // REMOVE 거래 건수
+
+    // 유형별 합계/건수 누적 (재집계 시 사용)
+    public void accumulate(TransactionType type, long amount, long count) {
+        if (type == TransactionType.ADD) {
+            this.addAmount += amount;
+            this.addCount += count;
+        } else {
+            this.removeAmount += amount;
+            this.removeCount += count;
+        }
+    }
+
+    public enum SummaryTarget {
+        ASSET,   // Transaction (자산 거래)
+        ACCOUNT  // AccountTransaction (계좌 거래)
+    }
+}
@@ -3,11 +3,33 @@ package com.back.domain.transactions.repository;
 import com.back.domain.account.entity.Account;
 import com.back.domain.transactions.entity.AccountTransaction;
 import com.back.domain.transactions.entity.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AccountTransactionRepository extends JpaRepository<AccountTransaction, Integer> {
+    // 목록 조회는 DTO 변환 시 계좌(account)를 건마다 따로 읽지 않도록 함께 가져온다 (N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = "account")
+    List<AccountTransaction> findAll();
+
+    @EntityGraph(attributePaths = "account")
     List<AccountTransaction> findByAccount_Id(int accountId);
+    @EntityGraph(attributePaths = "account")
     List<AccountTransaction> findByAccount_IdIn(List<Integer> accountIds);
+
+    // 회원의 전체 계좌 거래를 스트리밍 조회 (내보내기용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM AccountTransaction t WHERE t.account.member.id = :memberId ORDER BY t.date, t.id")
+    Stream<AccountTransaction> streamByMemberId(@Param("memberId") int memberId);
 }
@@ -0,0 +1,57 @@
+package com.back.domain.transactions.repository;
+
+import com.back.domain.transactions.dto.MonthlyAggregateRow;
+import com.back.domain.transactions.entity.TransactionMonthlySummary;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TransactionMonthlySummaryRepository extends JpaRepository<TransactionMonthlySummary, Integer> {
+
+    // 대상/월 행에 증감분을 더하고, 해당 월 첫 거래면 행을 만든다 (한 문장으로 원자적으로 처리)
+    // 조회 후 INSERT 로 나누면 같은 대상의 첫 거래가 동시에 들어올 때 uk_tx_summary_target_month 위반이 난다.
+    // MySQL 과 H2(MODE=MySQL) 모두 지원하는 ON DUPLICATE KEY UPDATE 사용
+    @Modifying
+    @Query(value = "INSERT INTO transaction_monthly_summary " +
+           "(target_type, target_id, summary_year, summary_month, " +
+           "add_amount, add_count, remove_amount, remove_count, create_date, modify_date) " +
+           "VALUES (:targetType, :targetId, :year, :month, " +
+           ":addAmount, :addCount, :removeAmount, :removeCount, :now, :now) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "add_amount = add_amount + :addAmount, " +
+           "add_count = add_count + :addCount, " +
+           "remove_amount = remove_amount + :removeAmount, " +
+           "remove_count = remove_count + :removeCount, " +
+           "modify_date = :now",
+           nativeQuery = true)
+    int upsert(
+            @Param("targetType") String targetType,
+            @Param("targetId") int targetId,
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("addAmount") long addAmount,
+            @Param("addCount") long addCount,
+            @Param("removeAmount") long removeAmount,
+            @Param("removeCount") long removeCount,
+            @Param("now") LocalDateTime now
+    );
+
+    List<TransactionMonthlySummary> findByTargetTypeAndTargetIdInOrderByTargetIdAscYearAscMonthAsc(
+            SummaryTarget targetType, List<Integer> targetIds);
+
+    // 원본 거래 기준 재집계용
+    @Query("SELECT new com.back.domain.transactions.dto.MonthlyAggregateRow(" +
+           "t.asset.id, year(t.date), month(t.date), t.type, sum(t.amount), count(t)) " +
+           "FROM Transaction t GROUP BY t.asset.id, year(t.date), month(t.date), t.type")
+    List<MonthlyAggregateRow> aggregateAssetTransactions();
+
+    @Query("SELECT new com.back.domain.transactions.dto.MonthlyAggregateRow(" +
+           "t.account.id, year(t.date), month(t.date), t.type, sum(t.amount), count(t)) " +
+           "FROM AccountTransaction t GROUP BY t.account.id, year(t.date), month(t.date), t.type")
+    List<MonthlyAggregateRow> aggregateAccountTransactions();
+}
@@ -3,36 +3,84 @@ package com.back.domain.transactions.repository;
 import com.back.domain.asset.entity.Asset;
 import com.back.domain.transactions.entity.Transaction;
 import com.back.domain.transactions.entity.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Integer> {
-    
+
+    // 목록 조회는 DTO 변환 시 자산(asset)을 건마다 따로 읽지 않도록 함께 가져온다 (N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = "asset")
+    List<Transaction> findAll();
+
     // 특정 자산의 거래 목록 조회
+    @EntityGraph(attributePaths = "asset")
     List<Transaction> findByAsset_Id(int assetId);
+    @EntityGraph(attributePaths = "asset")
     List<Transaction> findByAssetIdIn(List<Integer> assetIds);
     
     // 특정 계좌의 거래 목록 조회 (Asset을 통해 Account 연결)
     @Query("SELECT t FROM Transaction t JOIN t.asset a WHERE a.member.id = :accountId")
     List<Transaction> findByAccountId(@Param("accountId") int accountId);
     
-    // 거래 검색 및 필터링
+    // 거래 검색 및 필터링 (커서 기반 페이지네이션) - 첫 페이지
+    // idx_transaction_date_id 를 (date, id) 역순으로 따라 읽으므로 정렬 없이 limit 건에서 멈춘다.
+    @EntityGraph(attributePaths = "asset")
     @Query("SELECT t FROM Transaction t WHERE " +
            "(:type IS NULL OR t.type = :type) AND " +
            "(:startDate IS NULL OR t.date >= :startDate) AND " +
            "(:endDate IS NULL OR t.date <= :endDate) AND " +
            "(:minAmount IS NULL OR t.amount >= :minAmount) AND " +
            "(:maxAmount IS NULL OR t.amount <= :maxAmount) " +
-           "ORDER BY t.date DESC")
+           "ORDER BY t.date DESC, t.id DESC")
     List<Transaction> searchTransactions(
             @Param("type") TransactionType type,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             @Param("minAmount") Integer minAmount,
-            @Param("maxAmount") Integer maxAmount
+            @Param("maxAmount") Integer maxAmount,
+            Limit limit
+    );
+
+    // 거래 검색 및 필터링 - 커서 다음 페이지
+    // t.date <= :cursorDate 가 인덱스 범위 조건이 되어 커서 위치부터 바로 읽는다 (깊은 페이지도 첫 페이지와 비용이 같음).
+    // 같은 date 안에서는 id 로 커서 이후만 남긴다.
+    @EntityGraph(attributePaths = "asset")
+    @Query("SELECT t FROM Transaction t WHERE " +
+           "t.date <= :cursorDate AND (t.date < :cursorDate OR t.id < :cursorId) AND " +
+           "(:type IS NULL OR t.type = :type) AND " +
+           "(:startDate IS NULL OR t.date >= :startDate) AND " +
+           "(:endDate IS NULL OR t.date <= :endDate) AND " +
+           "(:minAmount IS NULL OR t.amount >= :minAmount) AND " +
+           "(:maxAmount IS NULL OR t.amount <= :maxAmount) " +
+           "ORDER BY t.date DESC, t.id DESC")
+    List<Transaction> searchTransactionsAfter(
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("minAmount") Integer minAmount,
+            @Param("maxAmount") Integer maxAmount,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") int cursorId,
+            Limit limit
     );
-} 
\ No newline at end of file
+
+    // 회원의 전체 거래를 스트리밍 조회 (내보내기용)
+    // 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 커서를 따라 읽는다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.asset.member.id = :memberId ORDER BY t.date, t.id")
+    Stream<Transaction> streamByMemberId(@Param("memberId") int memberId);
+}
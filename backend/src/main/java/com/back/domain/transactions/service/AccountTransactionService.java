@@ -7,10 +7,13 @@ import com.back.domain.member.entity.Member;
 import com.back.domain.transactions.dto.AccountTransactionDto;
 import com.back.domain.transactions.dto.CreateAccTracRequestDto;
 import com.back.domain.transactions.dto.TransactionDto;
+import com.back.domain.transactions.dto.TransactionMonthlySummaryDto;
 import com.back.domain.transactions.entity.AccountTransaction;
 import com.back.domain.transactions.entity.Transaction;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
 import com.back.domain.transactions.entity.TransactionType;
 import com.back.domain.transactions.repository.AccountTransactionRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,10 +27,12 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class AccountTransactionService {
     private final AccountTransactionRepository accountTransactionRepository;
     private final AccountRepository accountRepository;
     private final AccountService accountService;
+    private final TransactionSummaryService transactionSummaryService;
 
     // 거래 생성
     @Transactional
@@ -35,8 +40,11 @@ public class AccountTransactionService {
         Account account = accountService.getAccount(dto.accountId(),member);
         AccountTransaction accTrans = AccountTransaction.create(dto, account);
 
+        // 잔액을 먼저 원자적으로 반영 (잔액 부족이면 여기서 실패하고 거래는 저장되지 않음)
+        accountService.applyBalanceChange(account, accTrans.getType(), accTrans.getAmount());
         accountTransactionRepository.save(accTrans);
-        account.updateBalance(TransactionType.valueOf(dto.type()), dto.amount());
+        transactionSummaryService.record(SummaryTarget.ACCOUNT, account.getId(),
+                accTrans.getType(), accTrans.getAmount(), accTrans.getDate());
 
         return accTrans;
     }
@@ -59,6 +67,8 @@ public class AccountTransactionService {
         AccountTransaction accountTransaction = accountTransactionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 id의 거래가 없습니다. id:" + id));
         accountTransactionRepository.deleteById(id);
+        transactionSummaryService.revert(SummaryTarget.ACCOUNT, accountTransaction.getAccount().getId(),
+                accountTransaction.getType(), accountTransaction.getAmount(), accountTransaction.getDate());
         return accountTransaction;
     }
 
@@ -80,4 +90,9 @@ public class AccountTransactionService {
                         Collectors.mapping(AccountTransactionDto::new, Collectors.toList())
                 ));
     }
-}
\ No newline at end of file
+
+    // 계좌별 월간 거래 집계 조회 (원본 거래를 읽지 않고 롤업에서 조회)
+    public Map<Integer, List<TransactionMonthlySummaryDto>> findMonthlySummariesByAccountIds(List<Integer> accountIds) {
+        return transactionSummaryService.findSummaries(SummaryTarget.ACCOUNT, accountIds);
+    }
+}
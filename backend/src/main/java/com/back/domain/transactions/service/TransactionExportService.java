@@ -0,0 +1,110 @@
+package com.back.domain.transactions.service;
+
+import com.back.domain.transactions.dto.AccountTransactionDto;
+import com.back.domain.transactions.dto.ExportFormat;
+import com.back.domain.transactions.dto.TransactionDto;
+import com.back.domain.transactions.entity.AccountTransaction;
+import com.back.domain.transactions.entity.Transaction;
+import com.back.domain.transactions.repository.AccountTransactionRepository;
+import com.back.domain.transactions.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// 거래 내역 내보내기 (CSV / NDJSON)
+// 커서로 한 행씩 읽어 바로 출력 스트림에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리해
+// 내역 크기와 관계없이 메모리 사용량이 일정하게 유지된다.
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+    private static final String TRANSACTION_CSV_HEADER = "id,assetId,type,amount,content,date";
+    private static final String ACCOUNT_TRANSACTION_CSV_HEADER = "id,accountId,type,amount,content,date";
+
+    private final TransactionRepository transactionRepository;
+    private final AccountTransactionRepository accountTransactionRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    // 회원의 자산 거래 내보내기
+    @Transactional(readOnly = true)
+    public void exportTransactions(int memberId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Transaction> rows = transactionRepository.streamByMemberId(memberId)) {
+            export(rows, TransactionDto::new, TransactionDto.class, format, out,
+                    TRANSACTION_CSV_HEADER,
+                    dto -> csvLine(dto.id(), dto.assetId(), dto.type(), dto.amount(), dto.content(), dto.date()));
+        }
+    }
+
+    // 회원의 계좌 거래 내보내기
+    @Transactional(readOnly = true)
+    public void exportAccountTransactions(int memberId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AccountTransaction> rows = accountTransactionRepository.streamByMemberId(memberId)) {
+            export(rows, AccountTransactionDto::new, AccountTransactionDto.class, format, out,
+                    ACCOUNT_TRANSACTION_CSV_HEADER,
+                    dto -> csvLine(dto.id(), dto.accountId(), dto.type(), dto.amount(), dto.content(), dto.date()));
+        }
+    }
+
+    private <E, D> void export(Stream<E> rows, Function<E, D> toDto, Class<D> dtoType, ExportFormat format,
+                               OutputStream out, String csvHeader, Function<D, String> toCsv) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(dtoType);
+
+        if (format == ExportFormat.CSV) {
+            writer.write(csvHeader);
+            writer.write('\n');
+        }
+
+        Iterator<E> it = rows.iterator();
+        while (it.hasNext()) {
+            E entity = it.next();
+            D dto = toDto.apply(entity);
+            entityManager.detach(entity);
+
+            writer.write(format == ExportFormat.CSV ? toCsv.apply(dto) : jsonWriter.writeValueAsString(dto));
+            writer.write('\n');
+        }
+
+        writer.flush();
+    }
+
+    private static String csvLine(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(csvField(values[i]));
+        }
+        return sb.toString();
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 스프레드시트 수식으로 해석될 수 있는 값은 ' 를 붙인다
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String s = value.toString();
+        if (!s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0 && !(value instanceof Number)) {
+            s = "'" + s;
+        }
+        if (s.contains(",") || s.contains("\"") || s.contains("\n") || s.contains("\r")) {
+            s = "\"" + s.replace("\"", "\"\"") + "\"";
+        }
+        return s;
+    }
+}
@@ -0,0 +1,431 @@
+package com.back.domain.transactions.service;
+
+import com.back.domain.account.entity.Account;
+import com.back.domain.account.exception.AccountNotFoundException;
+import com.back.domain.account.repository.AccountRepository;
+import com.back.domain.account.service.AccountService;
+import com.back.domain.asset.repository.AssetRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.transactions.dto.TransactionImportResultDto;
+import com.back.domain.transactions.dto.TransactionImportResultDto.RowError;
+import com.back.domain.transactions.dto.TransactionImportRow;
+import com.back.domain.transactions.entity.TransactionMonthlySummary;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
+import com.back.domain.transactions.entity.TransactionType;
+import com.back.global.config.TransactionImportProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+// 거래 내역 일괄 가져오기 (CSV / JSON 배열)
+// 본문을 한 행씩 읽어 검증하고 batch-size 단위로 모아 JDBC 배치 INSERT 한다.
+// BaseEntity 의 IDENTITY 전략 때문에 JPA 로는 INSERT 를 묶을 수 없어 JdbcTemplate 을 쓴다.
+// 배치마다 별도 트랜잭션으로 커밋하며, 계좌 잔액과 월간 집계도 배치당 한 번씩 반영한다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionImportService {
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transaction (asset_id, type, amount, content, date, create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ACCOUNT_TRANSACTION_SQL =
+            "INSERT INTO account_transaction (account_id, type, amount, content, date, create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_CONTENT_LENGTH = 255;
+
+    private final AssetRepository assetRepository;
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final TransactionSummaryService transactionSummaryService;
+    private final TransactionImportProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 자산 거래 가져오기
+    public TransactionImportResultDto importTransactions(int assetId, Member member, MediaType contentType, InputStream body) {
+        if (!assetRepository.existsByIdAndMemberIdAndStatusTrue(assetId, member.getId())) {
+            throw new NoSuchElementException("존재하지 않는 자산입니다. id: " + assetId);
+        }
+
+        return importRows(contentType, body, batch -> transactionTemplate.execute(status -> {
+            insert(INSERT_TRANSACTION_SQL, assetId, batch);
+            transactionSummaryService.recordAll(summarize(SummaryTarget.ASSET, assetId, batch));
+            return List.<RowError>of();
+        }));
+    }
+
+    // 계좌 거래 가져오기
+    // 배치 안에서는 잠근 계좌의 잔액을 따라가며 검사해, 단건 등록과 마찬가지로 잔액을 넘는 출금 행은 실패 처리한다.
+    public TransactionImportResultDto importAccountTransactions(int accountId, Member member, MediaType contentType, InputStream body) {
+        if (!accountRepository.existsByIdAndMemberIdAndIsDeletedFalse(accountId, member.getId())) {
+            throw new AccountNotFoundException();
+        }
+
+        return importRows(contentType, body, batch -> transactionTemplate.execute(status -> {
+            Account account = accountService.lockAccount(accountId);
+            long before = account.getBalance() == null ? 0L : account.getBalance();
+            long balance = before;
+
+            List<ParsedRow> accepted = new ArrayList<>(batch.size());
+            List<RowError> errors = new ArrayList<>();
+            for (ParsedRow row : batch) {
+                if (row.type() == TransactionType.REMOVE && balance < row.amount()) {
+                    errors.add(new RowError(row.rowNumber(), "잔액이 부족합니다."));
+                    continue;
+                }
+                balance += row.type() == TransactionType.ADD ? row.amount() : -row.amount();
+                accepted.add(row);
+            }
+
+            insert(INSERT_ACCOUNT_TRANSACTION_SQL, accountId, accepted);
+            transactionSummaryService.recordAll(summarize(SummaryTarget.ACCOUNT, accountId, accepted));
+
+            long net = balance - before;
+            if (net != 0) {
+                accountService.applyBalanceChange(account,
+                        net > 0 ? TransactionType.ADD : TransactionType.REMOVE, Math.abs(net));
+            }
+            return errors;
+        }));
+    }
+
+    // 본문을 읽어 검증한 행을 batch-size 단위로 writer 에 넘기고 결과를 모은다
+    // writer 는 저장하지 못한 행의 오류 목록을 돌려준다.
+    private TransactionImportResultDto importRows(MediaType contentType, InputStream body,
+                                                  Function<List<ParsedRow>, List<RowError>> writer) {
+        ImportResult result = new ImportResult(properties.getMaxReportedErrors());
+        List<ParsedRow> batch = new ArrayList<>(properties.getBatchSize());
+
+        try (RowSource source = openSource(contentType, body)) {
+            while (true) {
+                int rowNumber = result.total + 1;
+                TransactionImportRow raw;
+                try {
+                    raw = source.next();
+                } catch (RowFormatException e) {
+                    result.total++;
+                    result.fail(new RowError(rowNumber, e.getMessage()));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // 스트림 중간의 JSON 오류 이후로는 읽을 수 없으므로 해당 행에 사유를 남기고 중단
+                    // (앞서 커밋한 배치와 모아 둔 행은 그대로 저장하고 결과에 포함)
+                    result.total++;
+                    result.fail(new RowError(rowNumber,
+                            "JSON 형식이 올바르지 않아 이 행부터 가져오지 못했습니다: " + e.getOriginalMessage()));
+                    break;
+                }
+                if (raw == null) {
+                    break;
+                }
+
+                result.total++;
+                // 상한을 넘으면 나머지는 읽지 않고 해당 행에 사유를 남긴다
+                if (rowNumber > properties.getMaxRows()) {
+                    result.fail(new RowError(rowNumber,
+                            "한 번에 가져올 수 있는 행은 최대 %d건입니다.".formatted(properties.getMaxRows())));
+                    break;
+                }
+
+                ParsedRow row;
+                try {
+                    row = parse(rowNumber, raw);
+                } catch (RowFormatException e) {
+                    result.fail(new RowError(rowNumber, e.getMessage()));
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() >= properties.getBatchSize()) {
+                    flush(batch, writer, result);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 첫 행을 읽기 전(본문 시작)의 오류 - 아직 저장한 행이 없다
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("가져올 내용을 읽을 수 없습니다.");
+        }
+
+        flush(batch, writer, result);
+
+        log.info("거래 가져오기 완료 - 전체 {}건, 성공 {}건, 실패 {}건", result.total, result.imported, result.failed);
+        return result.toDto();
+    }
+
+    private void flush(List<ParsedRow> batch, Function<List<ParsedRow>, List<RowError>> writer, ImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<RowError> errors = writer.apply(batch);
+        errors.forEach(result::fail);
+        result.imported += batch.size() - errors.size();
+        batch.clear();
+    }
+
+    private void insert(String sql, int targetId, List<ParsedRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, targetId);
+            ps.setString(2, row.type().name());
+            ps.setLong(3, row.amount());
+            ps.setString(4, row.content());
+            ps.setTimestamp(5, Timestamp.valueOf(row.date()));
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    // 배치의 행을 월 단위 증분으로 합침
+    private List<TransactionMonthlySummary> summarize(SummaryTarget target, int targetId, List<ParsedRow> rows) {
+        Map<Integer, TransactionMonthlySummary> byMonth = new LinkedHashMap<>();
+
+        for (ParsedRow row : rows) {
+            int key = row.date().getYear() * 12 + row.date().getMonthValue();
+            byMonth.computeIfAbsent(key, k -> TransactionMonthlySummary.builder()
+                            .targetType(target)
+                            .targetId(targetId)
+                            .year(row.date().getYear())
+                            .month(row.date().getMonthValue())
+                            .build())
+                    .accumulate(row.type(), row.amount(), 1);
+        }
+
+        return new ArrayList<>(byMonth.values());
+    }
+
+    private ParsedRow parse(int rowNumber, TransactionImportRow raw) {
+        TransactionType type;
+        try {
+            type = TransactionType.valueOf(trim(raw.type()));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new RowFormatException("유효하지 않은 거래 유형입니다: " + raw.type());
+        }
+
+        long amount;
+        try {
+            amount = Long.parseLong(trim(raw.amount()));
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new RowFormatException("유효하지 않은 거래 금액입니다: " + raw.amount());
+        }
+        if (amount <= 0) {
+            throw new RowFormatException("거래 금액은 0보다 커야 합니다.");
+        }
+
+        LocalDateTime date;
+        try {
+            date = LocalDateTime.parse(trim(raw.date()));
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new RowFormatException("유효하지 않은 날짜입니다: " + raw.date());
+        }
+
+        String content = unescapeFormula(raw.content());
+        if (content != null && content.length() > MAX_CONTENT_LENGTH) {
+            throw new RowFormatException("메모는 %d자 이하여야 합니다.".formatted(MAX_CONTENT_LENGTH));
+        }
+
+        return new ParsedRow(rowNumber, type, amount, content, date);
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    // 내보내기에서 수식 방지용으로 붙인 ' 를 되돌림
+    private static String unescapeFormula(String value) {
+        if (value != null && value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private RowSource openSource(MediaType contentType, InputStream body) throws IOException {
+        if (contentType != null && TEXT_CSV.includes(contentType)) {
+            return new CsvRowSource(body);
+        }
+        if (contentType != null && MediaType.APPLICATION_JSON.includes(contentType)) {
+            MappingIterator<TransactionImportRow> it = objectMapper.readerFor(TransactionImportRow.class).readValues(body);
+            return new RowSource() {
+                @Override
+                public TransactionImportRow next() throws IOException {
+                    return it.hasNextValue() ? it.nextValue() : null;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    it.close();
+                }
+            };
+        }
+        throw new IllegalArgumentException("지원하지 않는 가져오기 형식입니다: " + contentType);
+    }
+
+    private interface RowSource extends Closeable {
+        // 다음 행, 없으면 null
+        TransactionImportRow next() throws IOException;
+    }
+
+    // 헤더 이름으로 컬럼 위치를 찾으므로 내보내기한 CSV 를 그대로 다시 가져올 수 있다
+    // 따옴표로 감싼 필드 안의 줄바꿈은 지원하지 않는다.
+    private static class CsvRowSource implements RowSource {
+        private final BufferedReader reader;
+        private final int typeIdx;
+        private final int amountIdx;
+        private final int contentIdx;
+        private final int dateIdx;
+
+        CsvRowSource(InputStream body) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1);
+            }
+
+            List<String> columns = split(header).stream().map(String::trim).toList();
+            this.typeIdx = requireColumn(columns, "type");
+            this.amountIdx = requireColumn(columns, "amount");
+            this.contentIdx = columns.indexOf("content");
+            this.dateIdx = requireColumn(columns, "date");
+        }
+
+        @Override
+        public TransactionImportRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            List<String> fields;
+            try {
+                fields = split(line);
+            } catch (IllegalArgumentException e) {
+                throw new RowFormatException(e.getMessage());
+            }
+
+            return new TransactionImportRow(
+                    field(fields, typeIdx),
+                    field(fields, amountIdx),
+                    contentIdx < 0 ? null : field(fields, contentIdx),
+                    field(fields, dateIdx)
+            );
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private static int requireColumn(List<String> columns, String name) {
+            int idx = columns.indexOf(name);
+            if (idx < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 '" + name + "' 컬럼이 없습니다.");
+            }
+            return idx;
+        }
+
+        private static String field(List<String> fields, int idx) {
+            return idx < fields.size() ? fields.get(idx) : null;
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder sb = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        sb.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        sb.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(sb.toString());
+                    sb.setLength(0);
+                } else {
+                    sb.append(c);
+                }
+            }
+
+            if (quoted) {
+                throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+            }
+            fields.add(sb.toString());
+            return fields;
+        }
+    }
+
+    private record ParsedRow(int rowNumber, TransactionType type, long amount, String content, LocalDateTime date) {
+    }
+
+    // 해당 행만 실패 처리하고 계속 진행하는 오류
+    private static class RowFormatException extends RuntimeException {
+        RowFormatException(String message) {
+            super(message);
+        }
+    }
+
+    private static class ImportResult {
+        private final int maxReportedErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        ImportResult(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(RowError error) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            }
+        }
+
+        TransactionImportResultDto toDto() {
+            errors.sort((a, b) -> Integer.compare(a.row(), b.row()));
+            return new TransactionImportResultDto(total, imported, failed, errors, failed > errors.size());
+        }
+    }
+}
@@ -6,12 +6,19 @@ import com.back.domain.asset.repository.AssetRepository;
 import com.back.domain.account.repository.AccountRepository;
 import com.back.domain.transactions.dto.CreateTransactionRequestDto;
 import com.back.domain.transactions.dto.TransactionDto;
+import com.back.domain.transactions.dto.TransactionSearchCursor;
 import com.back.domain.transactions.dto.UpdateTransactionRequestDto;
+import com.back.domain.transactions.dto.TransactionMonthlySummaryDto;
 import com.back.domain.transactions.entity.Transaction;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
 import com.back.domain.transactions.entity.TransactionType;
 import com.back.domain.transactions.repository.TransactionRepository;
+import com.back.global.dto.CursorPageDto;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,12 +29,18 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class TransactionService {
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final AssetRepository assetRepository;
     private final AccountRepository accountRepository;
+    private final TransactionSummaryService transactionSummaryService;
 
     // 거래 생성
+    @Transactional
     public Transaction createTransaction(CreateTransactionRequestDto dto) {
         Asset asset = assetRepository.findById(dto.assetId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 자산입니다."));
@@ -40,7 +53,10 @@ public class TransactionService {
                 .date(LocalDateTime.parse(dto.date()))
                 .build();
 
-        return transactionRepository.save(transaction);
+        Transaction saved = transactionRepository.save(transaction);
+        transactionSummaryService.record(SummaryTarget.ASSET, asset.getId(),
+                saved.getType(), saved.getAmount(), saved.getDate());
+        return saved;
     }
 
 
@@ -55,23 +71,34 @@ public class TransactionService {
     }
 
     // 거래 삭제
+    @Transactional
     public Transaction deleteById(int id) {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 id의 거래가 없습니다. id:" + id));
         transactionRepository.deleteById(id);
+        transactionSummaryService.revert(SummaryTarget.ASSET, transaction.getAsset().getId(),
+                transaction.getType(), transaction.getAmount(), transaction.getDate());
         return transaction;
     }
 
     // 거래 수정
+    @Transactional
     public Transaction updateById(UpdateTransactionRequestDto dto) {
         Transaction transaction = transactionRepository.findById(dto.id())
                 .orElseThrow(() -> new IllegalArgumentException("해당 id의 거래가 없습니다. id:" + dto.id()));
 
+        // 수정 전 값을 집계에서 빼고 수정 후 값을 다시 더한다
+        int assetId = transaction.getAsset().getId();
+        transactionSummaryService.revert(SummaryTarget.ASSET, assetId,
+                transaction.getType(), transaction.getAmount(), transaction.getDate());
+
         transaction.setType(TransactionType.valueOf(dto.type()));
         transaction.setAmount(dto.amount());
         transaction.setContent(dto.content());
         transaction.setDate(LocalDateTime.parse(dto.date()));
 
+        transactionSummaryService.record(SummaryTarget.ASSET, assetId,
+                transaction.getType(), transaction.getAmount(), transaction.getDate());
         return transactionRepository.save(transaction);
     }
 
@@ -84,9 +111,12 @@ public class TransactionService {
         return transactionRepository.findByAsset_Id(assetId);
     }
 
-    // 거래 검색 및 필터링
-    public List<Transaction> searchTransactions(String type, String startDate, String endDate, 
-                                               Integer minAmount, Integer maxAmount) {
+    // 거래 검색 및 필터링 (커서 기반 페이지네이션)
+    // cursor 가 없으면 첫 페이지, 있으면 해당 위치 다음부터 size 건을 조회한다.
+    @Transactional(readOnly = true)
+    public CursorPageDto<TransactionDto> searchTransactions(String type, String startDate, String endDate,
+                                                            Integer minAmount, Integer maxAmount,
+                                                            String cursor, int size) {
         LocalDateTime start = null;
         LocalDateTime end = null;
         
@@ -106,7 +136,24 @@ public class TransactionService {
             }
         }
         
-        return transactionRepository.searchTransactions(transactionType, start, end, minAmount, maxAmount);
+        int pageSize = size <= 0 ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+        TransactionSearchCursor after = (cursor != null && !cursor.isEmpty())
+                ? TransactionSearchCursor.decode(cursor)
+                : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Transaction> rows = after == null
+                ? transactionRepository.searchTransactions(
+                        transactionType, start, end, minAmount, maxAmount, Limit.of(pageSize + 1))
+                : transactionRepository.searchTransactionsAfter(
+                        transactionType, start, end, minAmount, maxAmount,
+                        after.date(), after.id(), Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Transaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? TransactionSearchCursor.from(page.get(page.size() - 1)).encode() : null;
+
+        return CursorPageDto.of(page.stream().map(TransactionDto::new).toList(), nextCursor);
     }
 
     // id 목록 기반 조회.
@@ -120,4 +167,9 @@ public class TransactionService {
                         Collectors.mapping(TransactionDto::new, Collectors.toList())
                 ));
     }
-} 
\ No newline at end of file
+
+    // 자산별 월간 거래 집계 조회 (원본 거래를 읽지 않고 롤업에서 조회)
+    public Map<Integer, List<TransactionMonthlySummaryDto>> findMonthlySummariesByAssetIds(List<Integer> assetIds) {
+        return transactionSummaryService.findSummaries(SummaryTarget.ASSET, assetIds);
+    }
+}
@@ -0,0 +1,111 @@
+package com.back.domain.transactions.service;
+
+import com.back.domain.transactions.dto.MonthlyAggregateRow;
+import com.back.domain.transactions.dto.TransactionMonthlySummaryDto;
+import com.back.domain.transactions.entity.TransactionMonthlySummary;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
+import com.back.domain.transactions.entity.TransactionType;
+import com.back.domain.transactions.repository.TransactionMonthlySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 월간 거래 집계(롤업) 관리
+// 거래 서비스의 쓰기 트랜잭션에 참여해 같은 커밋으로 반영된다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionSummaryService {
+    private final TransactionMonthlySummaryRepository summaryRepository;
+
+    // 거래 추가 반영
+    @Transactional
+    public void record(SummaryTarget target, int targetId, TransactionType type, Long amount, LocalDateTime date) {
+        apply(target, targetId, type, amount, date, 1);
+    }
+
+    // 거래 제거 반영 (삭제, 수정 전 값 되돌리기)
+    @Transactional
+    public void revert(SummaryTarget target, int targetId, TransactionType type, Long amount, LocalDateTime date) {
+        apply(target, targetId, type, amount, date, -1);
+    }
+
+    // 여러 거래를 대상/월 단위로 미리 합친 증분을 한 번에 반영 (일괄 가져오기)
+    @Transactional
+    public void recordAll(List<TransactionMonthlySummary> deltas) {
+        for (TransactionMonthlySummary delta : deltas) {
+            applyDelta(delta.getTargetType(), delta.getTargetId(), delta.getYear(), delta.getMonth(),
+                    delta.getAddAmount(), delta.getAddCount(), delta.getRemoveAmount(), delta.getRemoveCount());
+        }
+    }
+
+    // 대상 id 목록별 월간 집계 조회
+    @Transactional(readOnly = true)
+    public Map<Integer, List<TransactionMonthlySummaryDto>> findSummaries(SummaryTarget target, List<Integer> targetIds) {
+        return summaryRepository.findByTargetTypeAndTargetIdInOrderByTargetIdAscYearAscMonthAsc(target, targetIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        TransactionMonthlySummary::getTargetId,
+                        LinkedHashMap::new,
+                        Collectors.mapping(TransactionMonthlySummaryDto::new, Collectors.toList())
+                ));
+    }
+
+    // 원본 거래로부터 전체 집계를 다시 만든다 (초기 데이터 적재 등 서비스를 거치지 않은 쓰기 이후)
+    @Transactional
+    public void rebuildAll() {
+        summaryRepository.deleteAllInBatch();
+
+        List<TransactionMonthlySummary> summaries = new ArrayList<>();
+        summaries.addAll(merge(SummaryTarget.ASSET, summaryRepository.aggregateAssetTransactions()));
+        summaries.addAll(merge(SummaryTarget.ACCOUNT, summaryRepository.aggregateAccountTransactions()));
+        summaryRepository.saveAll(summaries);
+
+        log.info("월간 거래 집계 재구성 완료 - {}건", summaries.size());
+    }
+
+    private void apply(SummaryTarget target, int targetId, TransactionType type, Long amount, LocalDateTime date, int sign) {
+        long delta = sign * (amount == null ? 0L : amount);
+        boolean isAdd = type == TransactionType.ADD;
+
+        long addAmount = isAdd ? delta : 0;
+        long addCount = isAdd ? sign : 0;
+        long removeAmount = isAdd ? 0 : delta;
+        long removeCount = isAdd ? 0 : sign;
+
+        applyDelta(target, targetId, date.getYear(), date.getMonthValue(),
+                addAmount, addCount, removeAmount, removeCount);
+    }
+
+    private void applyDelta(SummaryTarget target, int targetId, int year, int month,
+                            long addAmount, long addCount, long removeAmount, long removeCount) {
+        summaryRepository.upsert(target.name(), targetId, year, month,
+                addAmount, addCount, removeAmount, removeCount, LocalDateTime.now());
+    }
+
+    // 유형별로 나뉜 집계 행을 대상/월 단위 한 행으로 합침
+    private List<TransactionMonthlySummary> merge(SummaryTarget target, List<MonthlyAggregateRow> rows) {
+        Map<String, TransactionMonthlySummary> merged = new LinkedHashMap<>();
+
+        for (MonthlyAggregateRow row : rows) {
+            String key = row.targetId() + "-" + row.year() + "-" + row.month();
+            TransactionMonthlySummary summary = merged.computeIfAbsent(key, k -> TransactionMonthlySummary.builder()
+                    .targetType(target)
+                    .targetId(row.targetId())
+                    .year(row.year())
+                    .month(row.month())
+                    .build());
+            summary.accumulate(row.type(), row.amount() == null ? 0L : row.amount(), row.count());
+        }
+
+        return new ArrayList<>(merged.values());
+    }
+}
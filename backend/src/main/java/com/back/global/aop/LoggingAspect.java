@@ -10,42 +10,56 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Component;
 
-import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.concurrent.ConcurrentHashMap;
 
+// 컨트롤러 진입 로그 (DEBUG)
+// 메서드 이름과 @AuthenticationPrincipal 파라미터 위치는 메서드별로 한 번만 계산해 캐시하고,
+// DEBUG 가 꺼져 있으면 인자에 손대지 않고 바로 반환한다.
+// 요청 id / 처리 시간 / 상태 코드는 RequestTracingFilter 가 남긴다.
 @Aspect
 @Component
 @Slf4j
 public class LoggingAspect {
 
-    @Pointcut("execution(* com.back.domain.account.controller..*(..))")
-    public void accountControllerMethods(){}
+    private final ConcurrentHashMap<Method, HandlerDescriptor> descriptors = new ConcurrentHashMap<>();
 
-    @Before("accountControllerMethods()")
+    @Pointcut("within(com.back.domain..controller..*) && within(@org.springframework.web.bind.annotation.RestController *)")
+    public void controllerMethods(){}
+
+    @Before("controllerMethods()")
     public void logBefore(JoinPoint joinPoint) {
-        System.out.println("===AOP 작동됨===");
-        //메서드 이름
-        String methodName=joinPoint.getSignature().toShortString(); //JoinPoint: 현재 실행 중인 메서드 정보 객체
+        if (!log.isDebugEnabled()) {
+            return;
+        }
 
-        StringBuilder logMessage = new StringBuilder("\n요청: ").append(methodName);
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        HandlerDescriptor descriptor = descriptors.computeIfAbsent(method, HandlerDescriptor::of);
 
-        //메서드 파라미터에서 CustomUserDetails 추출
-        Object[] args = joinPoint.getArgs();
-        MethodSignature methodSignature=(MethodSignature) joinPoint.getSignature(); //MethodSignature : 메서드 이름, 파라미터 등 메서드 정보 가져옴
-        Parameter[] parameters=methodSignature.getMethod().getParameters();
+        log.debug("handler={} user={}", descriptor.name(), descriptor.username(joinPoint.getArgs()));
+    }
 
-        for(int i=0;i<parameters.length;i++){
-            Parameter parameter=parameters[i];
-            Object arg = args[i];
+    // 메서드별로 미리 계산해 두는 정보
+    private record HandlerDescriptor(String name, int principalIndex) {
 
-            //@AuthenticationPrincipal이 붙은 파라미터인지 확인
-            for(Annotation annotation:parameter.getAnnotations()){
-                if (annotation.annotationType().equals(AuthenticationPrincipal.class) && arg instanceof CustomUserDetails userDetails) {
-                    logMessage.append("\n사용자:").append(userDetails.getUsername());
+        static HandlerDescriptor of(Method method) {
+            Parameter[] parameters = method.getParameters();
+            int principalIndex = -1;
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].isAnnotationPresent(AuthenticationPrincipal.class)) {
+                    principalIndex = i;
+                    break;
                 }
             }
+            return new HandlerDescriptor(method.getDeclaringClass().getSimpleName() + "." + method.getName(), principalIndex);
+        }
+
+        String username(Object[] args) {
+            if (principalIndex >= 0 && args[principalIndex] instanceof CustomUserDetails userDetails) {
+                return userDetails.getUsername();
+            }
+            return "-";
         }
-        log.info(logMessage.toString());
     }
 }
-
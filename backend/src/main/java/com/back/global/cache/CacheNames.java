@@ -0,0 +1,13 @@
+package com.back.global.cache;
+
+import java.util.List;
+
+public final class CacheNames {
+    public static final String MEMBER_ASSETS = "memberAssets";     // 회원별 활성 자산 목록 (key: memberId)
+    public static final String MEMBER_ACCOUNTS = "memberAccounts"; // 회원별 미삭제 계좌 목록 (key: memberId)
+
+    public static final List<String> MEMBER_LIST_CACHES = List.of(MEMBER_ASSETS, MEMBER_ACCOUNTS);
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,38 @@
+package com.back.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 자산/계좌 변경 이벤트를 받아 회원별 목록 캐시를 제거
+// 이벤트 발생 즉시 한 번, 트랜잭션이 끝난 뒤(커밋/롤백 모두) 한 번 더 제거한다.
+// 커밋 전에 다른 요청이 이전 값이나 커밋되지 않은 값으로 다시 채운 경우까지 정리하기 위함.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberListCacheEvictor {
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void evictNow(MemberListChangedEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void evictAfterCompletion(MemberListChangedEvent event) {
+        evict(event);
+    }
+
+    private void evict(MemberListChangedEvent event) {
+        Cache cache = cacheManager.getCache(event.cacheName());
+        if (cache != null) {
+            cache.evict(event.memberId());
+            log.debug("회원 목록 캐시 제거 - 캐시: {}, 회원 ID: {}", event.cacheName(), event.memberId());
+        }
+    }
+}
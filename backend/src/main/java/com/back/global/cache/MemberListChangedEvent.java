@@ -0,0 +1,16 @@
+package com.back.global.cache;
+
+// 회원의 자산/계좌 목록이 바뀌었음을 알리는 이벤트
+// cacheName 은 CacheNames.MEMBER_ASSETS 또는 CacheNames.MEMBER_ACCOUNTS
+public record MemberListChangedEvent(
+        String cacheName,
+        int memberId
+) {
+    public static MemberListChangedEvent assets(int memberId) {
+        return new MemberListChangedEvent(CacheNames.MEMBER_ASSETS, memberId);
+    }
+
+    public static MemberListChangedEvent accounts(int memberId) {
+        return new MemberListChangedEvent(CacheNames.MEMBER_ACCOUNTS, memberId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.back.global.config;
+
+import com.back.global.cache.CacheNames;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 회원별 목록 캐시 (Spring Cache + Caffeine)
+// 캐시 이름을 미리 등록해 두면 actuator 가 시작 시 캐시 지표를 함께 등록한다.
+// 히트/미스: /actuator/metrics/cache.gets?tag=cache:memberAssets
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig {
+    private final MemberListCacheProperties properties;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats());
+        cacheManager.setCacheNames(CacheNames.MEMBER_LIST_CACHES);
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
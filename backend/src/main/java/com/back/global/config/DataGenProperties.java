@@ -0,0 +1,46 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// 부하 테스트용 대량 데이터 생성 설정 (datagen 프로파일)
+@Component
+@ConfigurationProperties(prefix = "datagen")
+@Getter
+@Setter
+public class DataGenProperties {
+
+    // 생성할 회원 수 (이메일: load{n}@load.test)
+    private int members = 1_000;
+
+    // 회원당 자산 / 계좌 / 목표 수
+    private int assetsPerMember = 5;
+    private int accountsPerMember = 2;
+    private int goalsPerMember = 3;
+
+    // 자산/계좌당 거래 수
+    private int transactionsPerAsset = 50;
+    private int transactionsPerAccount = 50;
+
+    // 지난달부터 거슬러 올라가며 만들 월별 스냅샷 수
+    private int snapshotMonths = 12;
+
+    // 같은 시드 + 같은 기준일이면 같은 데이터가 만들어진다
+    private long seed = 42L;
+
+    // 거래 일자/스냅샷 연월의 기준일 (비우면 실행한 날)
+    private LocalDate anchorDate;
+
+    // 생성 회원 공통 비밀번호
+    private String password = "111111";
+
+    // 한 트랜잭션에서 처리할 회원 수
+    private int chunkSize = 100;
+
+    // JDBC 배치 크기
+    private int batchSize = 1_000;
+}
@@ -0,0 +1,21 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "member-count-cache")
+@Getter
+@Setter
+public class MemberCountCacheProperties {
+
+    // 필터 조합별 캐시 항목 수
+    private long maximumSize = 1_000;
+
+    // 회원 변경 시에는 즉시 비워지므로 놓친 변경(직접 SQL 등)만 이 시간 안에 반영된다
+    private Duration ttl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,21 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "member-list-cache")
+@Getter
+@Setter
+public class MemberListCacheProperties {
+
+    // 캐시(자산 목록 / 계좌 목록)별 최대 회원 수
+    private long maximumSize = 10_000;
+
+    // 변경 이벤트를 놓친 경우를 대비한 만료 시간
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,22 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "metrics-scrape")
+@Getter
+@Setter
+public class MetricsScrapeProperties {
+
+    // /actuator/prometheus 를 인증 없이 수집할 수 있는 주소 (IP 또는 CIDR)
+    // 그 외 주소에서는 다른 actuator 엔드포인트와 같이 관리자만 접근 가능
+    // 기본은 비어 있음(관리자만) - 요청 주소는 getRemoteAddr() 라서 같은 호스트의 리버스 프록시를 거치면 모든 요청이 루프백으로 보인다.
+    // 수집 서버가 프록시를 거치지 않고 직접 붙는 주소만 넣을 것
+    private List<String> allowedAddresses = new ArrayList<>();
+}
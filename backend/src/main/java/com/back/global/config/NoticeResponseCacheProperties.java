@@ -0,0 +1,24 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "notice-response-cache")
+@Getter
+@Setter
+public class NoticeResponseCacheProperties {
+
+    // 캐시할 응답(목록 페이지 + 단건) 최대 개수
+    private long maximumSize = 1_000;
+
+    // 검색어 없는 목록 중 앞에서부터 캐시할 페이지 수 (그 뒤 페이지는 매번 조회)
+    private int maxCachedListPages = 10;
+
+    // 공지 변경 시에는 즉시 비워지므로, 목록에 보이는 조회수가 늦게 반영되는 최대 시간
+    private Duration ttl = Duration.ofSeconds(30);
+}
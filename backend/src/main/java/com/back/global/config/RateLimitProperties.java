@@ -0,0 +1,46 @@
+package com.back.global.config;
+
+import com.back.global.security.service.RateLimitPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    // 샤드 수 (샤드별로 맵이 분리되어 정리/상한 처리가 한 샤드 안에서만 일어남)
+    private int shards = 16;
+
+    // 샤드당 최대 버킷 수 (메모리 상한 = shards * maxEntriesPerShard)
+    private int maxEntriesPerShard = 10_000;
+
+    // 유휴 버킷 정리 주기
+    private Duration cleanupInterval = Duration.ofMinutes(1);
+
+    // 엔드포인트별 정책 (설정하지 않은 엔드포인트는 기본 정책 사용)
+    private Map<String, Policy> policies = new HashMap<>();
+
+    public Policy getPolicy(RateLimitPolicy policy) {
+        return policies.getOrDefault(policy.getKey(), Policy.DEFAULT);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private static final Policy DEFAULT = new Policy();
+
+        // 허용 시도 횟수 (버킷 용량)
+        private int capacity = 10;
+
+        // 용량만큼 다시 채워지는 데 걸리는 시간
+        private Duration window = Duration.ofMinutes(30);
+    }
+}
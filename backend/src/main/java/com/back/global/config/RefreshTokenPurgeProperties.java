@@ -0,0 +1,22 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "refresh-token-purge")
+@Getter
+@Setter
+public class RefreshTokenPurgeProperties {
+
+    // 배치 스케줄 (기본: 매시 15분)
+    private String cron = "0 15 * * * *";
+
+    // 트랜잭션 하나에서 삭제할 최대 행 수
+    private int chunkSize = 1000;
+
+    // 한 번 실행에서 처리할 최대 청크 수 (남은 행은 다음 실행에서 처리)
+    private int maxChunksPerRun = 100;
+}
@@ -0,0 +1,22 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "snapshot")
+@Getter
+@Setter
+public class SnapshotProperties {
+
+    // 보관 개월 수 (이번 달 포함)
+    private int retentionMonths = 6;
+
+    // 배치 스케줄 (기본: 매일 새벽 3시)
+    private String cron = "0 0 3 * * *";
+
+    // 한 번에 합계를 계산할 회원 수
+    private int chunkSize = 500;
+}
@@ -0,0 +1,22 @@
+package com.back.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "transaction-import")
+@Getter
+@Setter
+public class TransactionImportProperties {
+
+    // 한 번에 INSERT 하고 커밋하는 행 수 (잔액/집계도 이 단위로 한 번씩 반영)
+    private int batchSize = 1000;
+
+    // 한 요청에서 받을 수 있는 최대 행 수
+    private int maxRows = 200_000;
+
+    // 응답에 담을 행 오류 최대 개수 (초과분은 개수만 집계)
+    private int maxReportedErrors = 100;
+}
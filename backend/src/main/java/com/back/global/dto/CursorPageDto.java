@@ -0,0 +1,15 @@
+package com.back.global.dto;
+
+import java.util.List;
+
+// 커서 기반(keyset) 페이지 응답
+// nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회된다.
+public record CursorPageDto<T>(
+        List<T> content,
+        String nextCursor, // 다음 페이지가 없으면 null
+        boolean hasNext
+) {
+    public static <T> CursorPageDto<T> of(List<T> content, String nextCursor) {
+        return new CursorPageDto<>(content, nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// 요청마다 id 를 붙이고(MDC requestId, X-Request-Id 응답 헤더) 처리 시간을 한 줄로 남기는 필터
+// 시큐리티 필터보다 먼저 실행되어 인증 실패 응답에도 요청 id 가 남는다.
+// 클라이언트/게이트웨이가 보낸 X-Request-Id 가 안전한 형식이면 그대로 이어서 쓴다.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RequestTracingFilter extends OncePerRequestFilter {
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (log.isInfoEnabled()) {
+                // 스트리밍 응답은 본문을 보내기 전에 여기로 돌아오므로 async 로 표시
+                log.info("method={} uri={} status={} durationMs={}{}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        response.getStatus(),
+                        (System.nanoTime() - startedAt) / 1_000_000,
+                        request.isAsyncStarted() ? " async=true" : "");
+            }
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    static String resolveRequestId(String header) {
+        if (header != null && VALID_REQUEST_ID.matcher(header).matches()) {
+            return header;
+        }
+        // UUID.randomUUID 는 SecureRandom 을 거치므로 요청마다 쓰기엔 무겁다
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
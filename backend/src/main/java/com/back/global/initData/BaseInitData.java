@@ -18,6 +18,7 @@ import com.back.domain.transactions.entity.Transaction;
 import com.back.domain.transactions.entity.TransactionType;
 import com.back.domain.transactions.repository.AccountTransactionRepository;
 import com.back.domain.transactions.repository.TransactionRepository;
+import com.back.domain.transactions.service.TransactionSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationRunner;
@@ -44,6 +45,7 @@ public class BaseInitData {
     private final AccountTransactionRepository accountTransactionRepository;
     private final SnapshotRepository snapshotRepository;
     private final NoticeRepository noticeRepository;
+    private final TransactionSummaryService transactionSummaryService;
 
     @Autowired
     @Lazy
@@ -86,6 +88,9 @@ public class BaseInitData {
             
             // 8. 공지사항 데이터 (member에 의존)
             noticeInit();
+
+            // 9. 월간 거래 집계 (거래 데이터를 리포지토리로 직접 넣었으므로 재집계)
+            transactionSummaryService.rebuildAll();
             
             System.out.println("모든 초기 데이터가 성공적으로 생성되었습니다.");
         } catch (Exception e) {
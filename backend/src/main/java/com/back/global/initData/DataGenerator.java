@@ -0,0 +1,321 @@
+package com.back.global.initData;
+
+import com.back.domain.asset.entity.AssetType;
+import com.back.domain.goal.entity.GoalStatus;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.transactions.entity.TransactionType;
+import com.back.domain.transactions.service.TransactionSummaryService;
+import com.back.global.config.DataGenProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// 부하 테스트용 대량 데이터 생성기 (--spring.profiles.active=dev,datagen)
+// 회원마다 자산/계좌/거래/목표/스냅샷을 고정 시드로 만들어, 같은 설정이면 항상 같은 데이터가 나온다.
+// BaseEntity 의 IDENTITY 전략 때문에 JPA 대신 JdbcTemplate 배치 INSERT 를 쓰고, chunk-size 명 단위로 커밋한다.
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+@Slf4j
+public class DataGenerator implements ApplicationRunner {
+    public static final String EMAIL_FORMAT = "load%d@load.test";
+
+    private static final String INSERT_MEMBER_SQL =
+            "INSERT INTO member (email, password, name, phone_number, role, is_active, is_deleted, create_date, modify_date) VALUES (?, ?, ?, ?, 'USER', TRUE, FALSE, ?, ?)";
+    private static final String INSERT_ASSET_SQL =
+            "INSERT INTO asset (member_id, name, asset_type, asset_value, status, create_date, modify_date) VALUES (?, ?, ?, ?, TRUE, ?, ?)";
+    private static final String INSERT_ACCOUNT_SQL =
+            "INSERT INTO account (user_id, account_number, balance, name, is_deleted, create_date, modify_date) VALUES (?, ?, ?, ?, FALSE, ?, ?)";
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transaction (asset_id, type, amount, content, date, create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ACCOUNT_TRANSACTION_SQL =
+            "INSERT INTO account_transaction (account_id, type, amount, content, date, create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GOAL_SQL =
+            "INSERT INTO goal (member_id, description, current_amount, target_amount, deadline, status, deleted, create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)";
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO asset_snapshot (member_id, asset_year, asset_month, total_asset, create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String[] ASSET_NAMES = {"정기예금", "적금", "국내주식", "해외주식", "ETF", "아파트", "오피스텔"};
+    private static final String[] CONTENTS = {"급여", "월세", "식비", "배당금", "이자", "카드대금", "이체", "적립"};
+    private static final String[] GOALS = {"비상금 마련", "내 집 마련", "여행 자금", "노후 자금", "자동차 구입"};
+
+    private final DataGenProperties properties;
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionSummaryService transactionSummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (memberRepository.existsByEmail(EMAIL_FORMAT.formatted(0))) {
+            log.info("부하 테스트 데이터가 이미 있어 생성을 건너뜁니다.");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        LocalDate anchor = properties.getAnchorDate() != null ? properties.getAnchorDate() : LocalDate.now();
+        // 모든 회원이 같은 해시를 쓴다 (BCrypt 를 회원 수만큼 돌리지 않도록)
+        String encodedPassword = passwordEncoder.encode(properties.getPassword());
+
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        for (int from = 0; from < properties.getMembers(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, properties.getMembers());
+            List<MemberPlan> plans = new ArrayList<>(to - from);
+            for (int index = from; index < to; index++) {
+                plans.add(plan(index, anchor));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> insert(plans, encodedPassword));
+            log.info("부하 테스트 데이터 생성 중 - 회원 {}/{}", to, properties.getMembers());
+        }
+
+        transactionSummaryService.rebuildAll();
+        log.info("부하 테스트 데이터 생성 완료 - 회원 {}명, {}ms",
+                properties.getMembers(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 회원 한 명의 데이터를 미리 만든다. 회원 번호로 시드를 정하므로 chunk 크기와 무관하게 결과가 같다.
+    private MemberPlan plan(int index, LocalDate anchor) {
+        Random random = new Random(properties.getSeed() * 1_000_003L + index);
+        LocalDateTime end = anchor.atStartOfDay();
+
+        List<AssetPlan> assets = new ArrayList<>();
+        for (int i = 0; i < properties.getAssetsPerMember(); i++) {
+            AssetType type = AssetType.values()[random.nextInt(AssetType.values().length)];
+            long value = switch (type) {
+                case DEPOSIT -> 100_000L * (1 + random.nextInt(500));
+                case STOCK -> 10_000L * (1 + random.nextInt(5_000));
+                case REAL_ESTATE -> 10_000_000L * (10 + random.nextInt(90));
+            };
+            String name = ASSET_NAMES[random.nextInt(ASSET_NAMES.length)] + " " + (i + 1);
+            assets.add(new AssetPlan(name, type, value, transactions(random, end, properties.getTransactionsPerAsset())));
+        }
+
+        List<AccountPlan> accounts = new ArrayList<>();
+        for (int i = 0; i < properties.getAccountsPerMember(); i++) {
+            long balance = 10_000L * (10 + random.nextInt(1_000));
+            List<TransactionPlan> transactions = new ArrayList<>();
+            // 잔액이 음수가 되지 않도록 날짜순으로 잔액을 따라가며 출금 금액을 정한다
+            for (TransactionPlan tx : transactions(random, end, properties.getTransactionsPerAccount())) {
+                if (tx.type() == TransactionType.REMOVE && tx.amount() > balance) {
+                    tx = new TransactionPlan(TransactionType.ADD, tx.amount(), tx.content(), tx.date());
+                }
+                balance += tx.type() == TransactionType.ADD ? tx.amount() : -tx.amount();
+                transactions.add(tx);
+            }
+            String accountNumber = "%03d-%06d-%02d".formatted(100 + random.nextInt(900), index, i);
+            accounts.add(new AccountPlan(accountNumber, "계좌 " + (i + 1), balance, transactions));
+        }
+
+        List<GoalPlan> goals = new ArrayList<>();
+        for (int i = 0; i < properties.getGoalsPerMember(); i++) {
+            long target = 1_000_000L * (1 + random.nextInt(100));
+            long current = target * random.nextInt(101) / 100;
+            GoalStatus status = current == 0 ? GoalStatus.NOT_STARTED
+                    : current >= target ? GoalStatus.ACHIEVED : GoalStatus.IN_PROGRESS;
+            goals.add(new GoalPlan(GOALS[random.nextInt(GOALS.length)], current, target,
+                    end.plusMonths(1 + random.nextInt(36)), status));
+        }
+
+        // 현재 총자산에서 과거로 갈수록 조금씩 줄어드는 추이
+        long total = assets.stream().mapToLong(AssetPlan::value).sum()
+                + accounts.stream().mapToLong(AccountPlan::balance).sum();
+        List<SnapshotPlan> snapshots = new ArrayList<>();
+        YearMonth month = YearMonth.from(anchor);
+        for (int i = 1; i <= properties.getSnapshotMonths(); i++) {
+            total = total * (95 + random.nextInt(6)) / 100;
+            YearMonth target = month.minusMonths(i);
+            snapshots.add(new SnapshotPlan(target.getYear(), target.getMonthValue(), total));
+        }
+
+        return new MemberPlan(
+                EMAIL_FORMAT.formatted(index),
+                "부하" + index,
+                "010-%04d-%04d".formatted(index / 10_000, index % 10_000),
+                assets, accounts, goals, snapshots
+        );
+    }
+
+    // end 이전 1년 안에서 날짜순으로 정렬된 거래 목록
+    private List<TransactionPlan> transactions(Random random, LocalDateTime end, int count) {
+        List<TransactionPlan> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TransactionType type = random.nextInt(10) < 6 ? TransactionType.ADD : TransactionType.REMOVE;
+            long amount = 1_000L * (1 + random.nextInt(500));
+            String content = CONTENTS[random.nextInt(CONTENTS.length)];
+            LocalDateTime date = end.minusMinutes(random.nextInt(365 * 24 * 60));
+            transactions.add(new TransactionPlan(type, amount, content, date));
+        }
+        transactions.sort(Comparator.comparing(TransactionPlan::date));
+        return transactions;
+    }
+
+    private void insert(List<MemberPlan> plans, String encodedPassword) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int batchSize = properties.getBatchSize();
+
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, plans, batchSize, (ps, plan) -> {
+            ps.setString(1, plan.email());
+            ps.setString(2, encodedPassword);
+            ps.setString(3, plan.name());
+            ps.setString(4, plan.phoneNumber());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        List<Integer> memberIds = memberIds(plans);
+
+        List<Row<AssetPlan>> assets = new ArrayList<>();
+        List<Row<AccountPlan>> accounts = new ArrayList<>();
+        List<Row<GoalPlan>> goals = new ArrayList<>();
+        List<Row<SnapshotPlan>> snapshots = new ArrayList<>();
+        for (int i = 0; i < plans.size(); i++) {
+            MemberPlan plan = plans.get(i);
+            int memberId = memberIds.get(i);
+            plan.assets().forEach(asset -> assets.add(new Row<>(memberId, asset)));
+            plan.accounts().forEach(account -> accounts.add(new Row<>(memberId, account)));
+            plan.goals().forEach(goal -> goals.add(new Row<>(memberId, goal)));
+            plan.snapshots().forEach(snapshot -> snapshots.add(new Row<>(memberId, snapshot)));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ASSET_SQL, assets, batchSize, (ps, row) -> {
+            ps.setInt(1, row.parentId());
+            ps.setString(2, row.value().name());
+            ps.setString(3, row.value().type().name());
+            ps.setLong(4, row.value().value());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, accounts, batchSize, (ps, row) -> {
+            ps.setInt(1, row.parentId());
+            ps.setString(2, row.value().accountNumber());
+            ps.setLong(3, row.value().balance());
+            ps.setString(4, row.value().name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_GOAL_SQL, goals, batchSize, (ps, row) -> {
+            ps.setInt(1, row.parentId());
+            ps.setString(2, row.value().description());
+            ps.setLong(3, row.value().currentAmount());
+            ps.setLong(4, row.value().targetAmount());
+            ps.setTimestamp(5, Timestamp.valueOf(row.value().deadline()));
+            ps.setString(6, row.value().status().name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, snapshots, batchSize, (ps, row) -> {
+            ps.setInt(1, row.parentId());
+            ps.setInt(2, row.value().year());
+            ps.setInt(3, row.value().month());
+            ps.setLong(4, row.value().totalAsset());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        // 방금 넣은 자산/계좌의 id 는 회원별 INSERT 순서(id 오름차순)와 같다
+        List<Integer> assetIds = childIds("asset", "member_id", memberIds);
+        List<Integer> accountIds = childIds("account", "user_id", memberIds);
+
+        List<Row<TransactionPlan>> assetTransactions = new ArrayList<>();
+        for (int i = 0; i < assets.size(); i++) {
+            int assetId = assetIds.get(i);
+            assets.get(i).value().transactions().forEach(tx -> assetTransactions.add(new Row<>(assetId, tx)));
+        }
+        List<Row<TransactionPlan>> accountTransactions = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            int accountId = accountIds.get(i);
+            accounts.get(i).value().transactions().forEach(tx -> accountTransactions.add(new Row<>(accountId, tx)));
+        }
+
+        insertTransactions(INSERT_TRANSACTION_SQL, assetTransactions, now);
+        insertTransactions(INSERT_ACCOUNT_TRANSACTION_SQL, accountTransactions, now);
+    }
+
+    private void insertTransactions(String sql, List<Row<TransactionPlan>> rows, Timestamp now) {
+        jdbcTemplate.batchUpdate(sql, rows, properties.getBatchSize(), (ps, row) -> {
+            ps.setInt(1, row.parentId());
+            ps.setString(2, row.value().type().name());
+            ps.setLong(3, row.value().amount());
+            ps.setString(4, row.value().content());
+            ps.setTimestamp(5, Timestamp.valueOf(row.value().date()));
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    // plans 와 같은 순서의 회원 id
+    private List<Integer> memberIds(List<MemberPlan> plans) {
+        Map<String, Integer> idByEmail = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, email FROM member WHERE email IN (" + placeholders(plans.size()) + ")",
+                rs -> {
+                    idByEmail.put(rs.getString("email"), rs.getInt("id"));
+                },
+                plans.stream().map(MemberPlan::email).toArray()
+        );
+        return plans.stream().map(plan -> idByEmail.get(plan.email())).toList();
+    }
+
+    // 회원 순서 -> 회원별 id 오름차순으로 정렬한 자식 id
+    private List<Integer> childIds(String table, String memberColumn, List<Integer> memberIds) {
+        Map<Integer, List<Integer>> idsByMember = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, " + memberColumn + " FROM " + table
+                        + " WHERE " + memberColumn + " IN (" + placeholders(memberIds.size()) + ") ORDER BY id",
+                rs -> {
+                    idsByMember.computeIfAbsent(rs.getInt(memberColumn), k -> new ArrayList<>()).add(rs.getInt("id"));
+                },
+                memberIds.toArray()
+        );
+        return memberIds.stream()
+                .flatMap(memberId -> idsByMember.getOrDefault(memberId, List.of()).stream())
+                .toList();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record MemberPlan(String email, String name, String phoneNumber, List<AssetPlan> assets,
+                              List<AccountPlan> accounts, List<GoalPlan> goals, List<SnapshotPlan> snapshots) {
+    }
+
+    private record AssetPlan(String name, AssetType type, long value, List<TransactionPlan> transactions) {
+    }
+
+    private record AccountPlan(String accountNumber, String name, long balance, List<TransactionPlan> transactions) {
+    }
+
+    private record TransactionPlan(TransactionType type, long amount, String content, LocalDateTime date) {
+    }
+
+    private record GoalPlan(String description, long currentAmount, long targetAmount, LocalDateTime deadline,
+                            GoalStatus status) {
+    }
+
+    private record SnapshotPlan(int year, int month, long totalAsset) {
+    }
+
+    // 부모 id 가 정해진 INSERT 대상 행
+    private record Row<T>(int parentId, T value) {
+    }
+}
@@ -1,16 +1,24 @@
 package com.back.global.security;
 
+import com.back.global.config.MetricsScrapeProperties;
 import com.back.global.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
@@ -21,6 +29,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final MetricsScrapeProperties metricsScrapeProperties;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -29,6 +38,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // JWT 사용으로 세션 비활성화
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(StreamingResponseBody)의 비동기 재디스패치 - 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         //PUBLIC - 인증 불필요
                         .requestMatchers(
                                 "/",
@@ -41,9 +53,16 @@ public class SecurityConfig {
                                 "/webjars/**",
                                 "/api/v1/auth/**",           // 인증 관련 API 허용
                                 "/api/v1/members/signup",    // 회원가입 API 허용
-                                "/api/v1/members/check-email" // 이메일 중복체크 허용
+                                "/api/v1/members/check-email", // 이메일 중복체크 허용
+                                "/actuator/health"           // 헬스 체크 허용
                         ).permitAll()
 
+                        // 프로메테우스 수집 - 허용된 주소(수집 서버) 또는 관리자
+                        .requestMatchers("/actuator/prometheus").access(prometheusScrapeAccess())
+
+                        // 운영 지표(actuator) - 관리자만
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // ADMIN 전용 - 관리자만 접근 가능
                         .requestMatchers(HttpMethod.GET, "/api/v1/admin/members").hasRole("ADMIN")           // 전체 회원 조회
                         .requestMatchers(HttpMethod.GET, "/api/v1/admin/members/active").hasRole("ADMIN")    // 활성 회원 조회
@@ -63,6 +82,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/transactions/**").authenticated()  // 거래내역 관리
                         .requestMatchers("/api/v1/goals/**").authenticated()         // 목표 관리
                         .requestMatchers("/api/v1/snapshot/**").authenticated()      // 스냅샷 관리
+                        .requestMatchers("/api/v1/portfolio/**").authenticated()     // 순자산 요약
 
                         // 공지사항 관련 API - 조회는 모두 허용, 생성/수정/삭제는 관리자만
                         .requestMatchers(HttpMethod.GET, "/api/v1/notices/**").permitAll()           // 공지사항 조회 (모든 사용자)
@@ -82,6 +102,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private AuthorizationManager<RequestAuthorizationContext> prometheusScrapeAccess() {
+        List<IpAddressMatcher> allowed = metricsScrapeProperties.getAllowedAddresses().stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+
+        AuthorizationManager<RequestAuthorizationContext> fromAllowedAddress = (authentication, context) ->
+                new AuthorizationDecision(allowed.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+
+        return AuthorizationManagers.anyOf(fromAllowedAddress, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
+
     @Bean
     public UrlBasedCorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
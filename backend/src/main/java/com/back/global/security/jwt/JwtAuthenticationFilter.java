@@ -1,6 +1,7 @@
 package com.back.global.security.jwt;
 
 import com.back.global.security.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -42,13 +43,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = getTokenFromRequest(request);
             log.debug("추출된 토큰 존재 여부: {}", StringUtils.hasText(token));
 
+            // 토큰은 한 번만 파싱/검증하고 이후 값은 Claims 에서 꺼낸다
+            Claims claims = StringUtils.hasText(token) ? jwtUtil.parseClaims(token) : null;
+
             // 토큰이 존재하고 유효한 경우
-            if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
+            if (claims != null) {
                 log.debug("JWT 토큰 검증 성공");
 
                 //토큰에서 이메일 추출
-                String email = jwtUtil.getEmailFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
+                String email = jwtUtil.getEmail(claims);
+                String role = jwtUtil.getRole(claims);
                 log.debug("토큰에서 추출한 사용자 정보 - 이메일: {}, 역할: {}", email, role);
 
                 // 사용자 정보 로드
@@ -83,8 +87,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    // Authorization 헤더에서 Bearer 토큰 추출
-    private String getTokenFromRequest(HttpServletRequest request) {
+    // Authorization 헤더에서 Bearer 토큰 추출 (없으면 accessToken 쿠키)
+    static String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer")) {
             return bearerToken.substring(7); // "Bearer " 제거
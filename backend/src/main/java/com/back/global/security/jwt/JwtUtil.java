@@ -3,23 +3,74 @@ package com.back.global.security.jwt;
 import com.back.global.config.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
 
-    // 비밀키 생성
+    // 서명 키와 파서는 불변이고 스레드 안전하므로 기동 시 한 번만 만들어 재사용한다.
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtUtil(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    // 비밀키 반환
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes());
+        return signingKey;
+    }
+
+    // 토큰 서명/만료를 검증하고 Claims 반환 (유효하지 않으면 null)
+    // 요청당 한 번만 파싱하고 필요한 값은 반환된 Claims 에서 꺼내 쓴다.
+    public Claims parseClaims(String token) {
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            log.error("JWT 토큰이 만료되었습니다: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("잘못된 JWT 토큰입니다: {}", e.getMessage());
+        } catch (SecurityException e) {
+            log.error("JWT 서명이 잘못되었습니다: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    // Claims 에서 이메일 추출
+    public String getEmail(Claims claims) {
+        return claims.getSubject();
+    }
+
+    // Claims 에서 사용자 ID 추출
+    public int getUserId(Claims claims) {
+        return claims.get("userId", Integer.class);
+    }
+
+    // Claims 에서 역할(role) 추출
+    public String getRole(Claims claims) {
+        return claims.get("role", String.class);
+    }
+
+    // Claims 가 리프레시 토큰인지 확인
+    public boolean isRefreshToken(Claims claims) {
+        return claims != null && "refresh".equals(claims.get("tokenType"));
     }
 
     // JWT 토큰 생성
@@ -49,44 +100,19 @@ public class JwtUtil {
 
     // 토큰에서 이메일 추출
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
         return claims.getSubject();
     }
 
     // 토큰에서 사용자 ID 추출
     public int getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
         return claims.get("userId", Integer.class);
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            log.error("JWT 토큰이 만료되었습니다: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.error("잘못된 JWT 토큰입니다: {}", e.getMessage());
-        } catch (SecurityException e) {
-            log.error("JWT 서명이 잘못되었습니다: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
-        }
-        return false;
+        return parseClaims(token) != null;
     }
 
     // 리프레시 토큰 생성
@@ -109,6 +135,7 @@ public class JwtUtil {
                 .claim("userId", userId)
                 .claim("role", role)
                 .claim("tokenType", "refresh")
+                .setId(UUID.randomUUID().toString()) // 같은 초에 발급돼도 해시가 겹치지 않도록 jti 부여
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(getSigningKey())
@@ -118,12 +145,7 @@ public class JwtUtil {
     // 리프레시 토큰 여부 확인
     public boolean isRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return "refresh".equals(claims.get("tokenType"));
+            return isRefreshToken(jwtParser.parseSignedClaims(token).getPayload());
         } catch (Exception e) {
             return false;
         }
@@ -131,21 +153,13 @@ public class JwtUtil {
 
     // 토큰에서 역할(role) 추출
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
         return claims.get("role", String.class);
     }
 
     // 토큰의 만료 날짜 추출
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
         return claims.getExpiration();
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.back.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 토큰 원문 대신 저장/조회에 쓰는 SHA-256 다이제스트 (64자 hex 고정 길이)
+public final class TokenHasher {
+
+    public static final int HASH_LENGTH = 64;
+
+    private TokenHasher() {
+    }
+
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 지원해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
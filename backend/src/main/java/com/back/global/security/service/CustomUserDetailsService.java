@@ -14,9 +14,14 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return principalCache.get(email, this::loadFromDatabase);
+    }
+
+    private CustomUserDetails loadFromDatabase(String email) {
         Member member = memberRepository.findByEmailAndNotDeleted(email)
          .orElseThrow(() -> new UsernameNotFoundException("해당 이메일을 가진 회원이 존재하지 않습니다."));
 
@@ -0,0 +1,67 @@
+package com.back.global.security.service;
+
+import com.back.global.config.PrincipalCacheProperties;
+import com.back.global.security.jwt.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+// 인증된 사용자(CustomUserDetails) 캐시 - 이메일을 키로 사용
+// JWT 검증 후 매 요청마다 발생하던 회원 조회 쿼리를 줄이기 위한 용도
+// 히트/미스 지표는 /actuator/metrics/cache.gets?tag=cache:principal 로 확인
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final Cache<String, CustomUserDetails> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    // 캐시 조회, 없으면 loader 로 로드 후 저장
+    // 쓰기 트랜잭션 안에서는 커밋 전 데이터가 캐시에 남지 않도록 캐시를 거치지 않는다.
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        if (!isCacheable()) {
+            return loader.apply(email);
+        }
+        return cache.get(email, loader);
+    }
+
+    // 회원 정보 변경 시 호출 - 즉시 제거하고, 트랜잭션 중이면 커밋 후 한 번 더 제거
+    // (커밋 전에 다른 요청이 이전 값으로 다시 채워 넣는 경우 방지)
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+
+        cache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+        log.debug("인증 사용자 캐시 제거 - 이메일: {}", email);
+    }
+
+    private boolean isCacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
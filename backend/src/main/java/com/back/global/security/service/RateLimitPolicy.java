@@ -0,0 +1,16 @@
+package com.back.global.security.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 레이트 리밋 적용 엔드포인트 구분
+// key 는 application.yml 의 rate-limit.policies 하위 키와 일치해야 한다.
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitPolicy {
+    LOGIN("login"),
+    FIND_ACCOUNT("find-account"),
+    RESET_PASSWORD("reset-password");
+
+    private final String key;
+}
@@ -1,84 +1,226 @@
-
 package com.back.global.security.service;
 
+import com.back.global.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.atomic.AtomicReference;
+
+// 엔드포인트 + 클라이언트(IP) 단위 토큰 버킷 레이트 리미터
+// - 시도마다 토큰을 먼저 하나 가져가고(tryAcquire), 성공한 시도는 돌려준다(refund).
+//   확인과 소비가 한 번의 CAS 라서 같은 IP 의 동시 요청이 몰려도 capacity 를 넘겨 통과하지 못한다.
+// - 토큰은 정책의 window 동안 capacity 만큼 서서히 다시 채워진다.
+// - 버킷 상태는 불변 객체를 AtomicReference 로 CAS 교체하므로 락 없이 원자적으로 갱신된다.
+// - 가득 찬(= 기록이 없는 것과 같은) 버킷은 주기적으로 전체를 훑어 제거한다.
+//   샤드별 상한을 넘으면 새 버킷을 넣을 때 표본 몇 개만 살펴 밀어내므로 삽입 비용이 샤드 크기와 무관하다.
+// - 지표: 차단 횟수 app.rate_limit.rejections{policy}, 보관 중인 버킷 수 app.rate_limit.buckets
 @Service
 @Slf4j
 public class RateLimitService {
 
-    private static final int MAX_ATTEMPTS = 10;
-    private static final int RESET_TIME = 30;
+    public static final String REJECTIONS_METRIC = "app.rate_limit.rejections";
 
-    // IP 주소별 시도 횟수와 마지막 시도 시간을 저장
-    private final ConcurrentHashMap<String, AttemptInfo> attemptMap = new ConcurrentHashMap<>();
+    // 상한 초과 시 제거 대상을 고르기 위해 살펴보는 버킷 수
+    private static final int EVICTION_SAMPLE_SIZE = 32;
 
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Bucket>[] shards;
 
-    public boolean isAllowed(String ipAddress) {
-        AttemptInfo info = attemptMap.get(ipAddress);
+    @SuppressWarnings("unchecked")
+    public RateLimitService(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.shards = new ConcurrentHashMap[Math.max(1, properties.getShards())];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+
+        Gauge.builder("app.rate_limit.buckets", this, RateLimitService::size)
+                .description("보관 중인 레이트 리밋 버킷 수")
+                .register(meterRegistry);
+    }
 
-        if (info == null) {
-            return true;
+    // 토큰을 하나 가져갈 수 있으면 시도 허용 (확인과 소비를 원자적으로 수행)
+    // 거부되면 호출 측에서 요청을 차단하므로 여기서 차단 횟수를 센다.
+    public boolean tryAcquire(RateLimitPolicy policy, String clientKey) {
+        boolean acquired = getOrCreateBucket(policy, clientKey).tryConsume(System.nanoTime());
+        if (!acquired) {
+            meterRegistry.counter(REJECTIONS_METRIC, "policy", policy.getKey()).increment();
         }
+        return acquired;
+    }
 
-        // 30분이 지났으면 초기화
-        if (info.lastAttempt.isBefore(LocalDateTime.now().minusMinutes(RESET_TIME))) {
-            attemptMap.remove(ipAddress);
-            return true;
+    // 성공한 시도의 토큰 반환 (tryAcquire 로 가져간 토큰만 돌려준다)
+    public void refund(RateLimitPolicy policy, String clientKey) {
+        Bucket bucket = findBucket(policy, clientKey);
+        if (bucket != null) {
+            bucket.refund(System.nanoTime());
         }
+    }
 
-        return info.attemptCount < MAX_ATTEMPTS;
+    // 다음 시도가 허용되기까지 남은 시간 (허용 상태면 0)
+    public Duration getRetryAfter(RateLimitPolicy policy, String clientKey) {
+        Bucket bucket = findBucket(policy, clientKey);
+        if (bucket == null) {
+            return Duration.ZERO;
+        }
 
+        double missing = 1 - bucket.current(System.nanoTime()).tokens();
+        if (missing <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) Math.ceil(missing / bucket.refillPerNano));
     }
 
-    // IP 주소로 시도 횟수를 기록
-    // 시도 횟수가 최대치를 초과하면 false를 반환
-    public void recordAttempt(String ipAddress) {
-        AttemptInfo info = attemptMap.get(ipAddress);
-
-        if (info == null) {
-            attemptMap.put(ipAddress, new AttemptInfo(1, LocalDateTime.now()));
-        } else {
-            // 30분이 지났으면 초기화
-            if (info.lastAttempt.isBefore(LocalDateTime.now().minusMinutes(RESET_TIME))) {
-                attemptMap.put(ipAddress, new AttemptInfo(1, LocalDateTime.now()));
-            } else {
-                info.attemptCount++;
-                info.lastAttempt = LocalDateTime.now();
+    // 가득 찬 버킷 정리
+    // 제거 직전에 다른 스레드가 같은 버킷을 소비하면 그 한 번의 기록은 유실될 수 있다(허용 쪽으로만 틀어짐).
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval:1m}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int removed = 0;
+
+        for (ConcurrentHashMap<String, Bucket> shard : shards) {
+            Iterator<Map.Entry<String, Bucket>> it = shard.entrySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().getValue().isFull(now)) {
+                    it.remove();
+                    removed++;
+                }
             }
         }
 
-        log.warn("Rate limit attempt recorded for IP: {} (attempts: {})",
-                ipAddress, attemptMap.get(ipAddress).attemptCount);
+        if (removed > 0) {
+            log.debug("유휴 레이트 리밋 버킷 정리 - 제거: {}, 남은 버킷: {}", removed, size());
+        }
+    }
+
+    // 현재 보관 중인 버킷 수
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, Bucket> shard : shards) {
+            size += shard.size();
+        }
+        return size;
     }
 
-    // IP 주소로 남은 시도 횟수를 반환
-    // 30분이 지난 경우 최대 시도 횟수를 반환
-    public int getRemainingAttempts(String ipAddress) {
-        AttemptInfo info = attemptMap.get(ipAddress);
-        if (info == null) {
-            return MAX_ATTEMPTS;
+    // 샤드 상한 초과 시: 표본 중 가득 찬 버킷을 지우고, 없으면 표본 중 가장 오래 갱신되지 않은 버킷 제거
+    // 샤드 전체를 훑지 않으므로 위조한 키가 몰려도 삽입마다 비용이 EVICTION_SAMPLE_SIZE 로 제한된다 (전체 정리는 evictIdleBuckets).
+    private void evictForCapacity(ConcurrentHashMap<String, Bucket> shard) {
+        long now = System.nanoTime();
+        boolean removedFull = false;
+        String oldestKey = null;
+        long oldestUpdatedAt = Long.MAX_VALUE;
+        int sampled = 0;
+
+        Iterator<Map.Entry<String, Bucket>> it = shard.entrySet().iterator();
+        while (it.hasNext() && sampled++ < EVICTION_SAMPLE_SIZE) {
+            Map.Entry<String, Bucket> entry = it.next();
+            Bucket bucket = entry.getValue();
+            if (bucket.isFull(now)) {
+                it.remove();
+                removedFull = true;
+                continue;
+            }
+            long updatedAt = bucket.state.get().updatedAt();
+            if (updatedAt < oldestUpdatedAt) {
+                oldestUpdatedAt = updatedAt;
+                oldestKey = entry.getKey();
+            }
         }
 
-        // 30분이 지났으면 초기화
-        if (info.lastAttempt.isBefore(LocalDateTime.now().minusMinutes(RESET_TIME))) {
-            return MAX_ATTEMPTS;
+        if (!removedFull && oldestKey != null) {
+            shard.remove(oldestKey);
         }
+    }
+
+    private Bucket getOrCreateBucket(RateLimitPolicy policy, String clientKey) {
+        String key = keyOf(policy, clientKey);
+        ConcurrentHashMap<String, Bucket> shard = shardOf(key);
 
-        return Math.max(0, MAX_ATTEMPTS - info.attemptCount);
+        Bucket bucket = shard.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (shard.size() >= properties.getMaxEntriesPerShard()) {
+            evictForCapacity(shard);
+        }
+        return shard.computeIfAbsent(key, k -> new Bucket(properties.getPolicy(policy), System.nanoTime()));
     }
 
-    private static class AttemptInfo {
-        int attemptCount;
-        LocalDateTime lastAttempt;
+    private Bucket findBucket(RateLimitPolicy policy, String clientKey) {
+        String key = keyOf(policy, clientKey);
+        return shardOf(key).get(key);
+    }
+
+    private ConcurrentHashMap<String, Bucket> shardOf(String key) {
+        return shards[(key.hashCode() & 0x7fffffff) % shards.length];
+    }
+
+    private String keyOf(RateLimitPolicy policy, String clientKey) {
+        return policy.getKey() + ":" + clientKey;
+    }
+
+    // 불변 버킷 상태 (updatedAt 은 System.nanoTime 기준)
+    private record BucketState(double tokens, long updatedAt) {
+    }
+
+    private static final class Bucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private final AtomicReference<BucketState> state;
+
+        Bucket(RateLimitProperties.Policy policy, long now) {
+            this.capacity = policy.getCapacity();
+            this.refillPerNano = capacity / Math.max(1, policy.getWindow().toNanos());
+            this.state = new AtomicReference<>(new BucketState(capacity, now));
+        }
+
+        // 경과 시간만큼 채운 현재 상태 (저장하지 않음)
+        BucketState current(long now) {
+            return refill(state.get(), now);
+        }
+
+        // 토큰이 1개 이상이면 하나 소비하고 true, 부족하면 상태를 바꾸지 않고 false
+        boolean tryConsume(long now) {
+            while (true) {
+                BucketState prev = state.get();
+                BucketState refilled = refill(prev, now);
+                if (refilled.tokens() < 1) {
+                    return false;
+                }
+                if (state.compareAndSet(prev, new BucketState(refilled.tokens() - 1, now))) {
+                    return true;
+                }
+            }
+        }
+
+        void refund(long now) {
+            while (true) {
+                BucketState prev = state.get();
+                BucketState refilled = refill(prev, now);
+                BucketState next = new BucketState(Math.min(capacity, refilled.tokens() + 1), now);
+                if (state.compareAndSet(prev, next)) {
+                    return;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return current(now).tokens() >= capacity;
+        }
 
-        AttemptInfo(int attemptCount, LocalDateTime lastAttempt) {
-            this.attemptCount = attemptCount;
-            this.lastAttempt = lastAttempt;
+        private BucketState refill(BucketState s, long now) {
+            long elapsed = Math.max(0, now - s.updatedAt());
+            double tokens = Math.min(capacity, s.tokens() + elapsed * refillPerNano);
+            return new BucketState(tokens, s.updatedAt());
         }
     }
 }
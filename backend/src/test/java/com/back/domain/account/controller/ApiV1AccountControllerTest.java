@@ -2,6 +2,7 @@ package com.back.domain.account.controller;
 
 import com.back.domain.account.repository.AccountRepository;
 import com.back.domain.account.service.AccountService;
+import com.back.global.cache.CacheNames;
 import com.back.global.security.jwt.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -31,6 +34,8 @@ class ApiV1AccountControllerTest {
     MockMvc mockMvc;
     @Autowired
     JwtUtil jwtutil;
+    @Autowired
+    CacheManager cacheManager;
 
     ObjectMapper objectMapper=new ObjectMapper();
     String token;
@@ -150,4 +155,27 @@ class ApiV1AccountControllerTest {
                         .header("Authorization", "Bearer " + token))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 다건 조회 캐시 - 등록 시 제거되어 새 계좌가 바로 보인다")
+    void getAccounts_cacheEvictedOnCreate() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(2));
+        assertThat(cacheManager.getCache(CacheNames.MEMBER_ACCOUNTS).get(4)).isNotNull();
+
+        mockMvc.perform(post("/api/v1/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "name", "캐시",
+                                "accountNumber", "999-999",
+                                "balance", 500))))
+                .andExpect(status().isCreated());
+        assertThat(cacheManager.getCache(CacheNames.MEMBER_ACCOUNTS).get(4)).isNull();
+
+        mockMvc.perform(get("/api/v1/accounts")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+}
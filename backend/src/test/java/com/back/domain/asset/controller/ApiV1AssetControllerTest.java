@@ -4,7 +4,10 @@ import com.back.domain.asset.repository.AssetRepository;
 import com.back.domain.asset.service.AssetService;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
+import com.back.global.perf.RequestBudget;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,8 +20,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -43,6 +48,9 @@ class ApiV1AssetControllerTest {
     @Autowired
     private AssetService assetService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Member member;
 
     @BeforeEach
@@ -117,4 +125,36 @@ class ApiV1AssetControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.length()").value(assetService.count()));
     }
+
+    @Test
+    @WithMockUser
+    @DisplayName("자산 전체 조회 - 쿼리 예산 1회")
+    void getAssets_budget() throws Exception {
+        RequestBudget.of("GET /api/v1/assets")
+                .maxQueries(1)
+                .maxJdbcTime(Duration.ofMillis(500))
+                .maxAllocatedBytes(64L * 1024 * 1024)
+                .perform(mvc, get("/api/v1/assets"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("서비스 호출 시간이 app.service 타이머에 클래스/메서드별로 기록된다")
+    void getAssets_serviceTimer() throws Exception {
+        long before = serviceTimerCount(AssetService.class, "findAll");
+
+        mvc.perform(get("/api/v1/assets"))
+                .andExpect(status().isOk());
+
+        assertThat(serviceTimerCount(AssetService.class, "findAll")).isEqualTo(before + 1);
+    }
+
+    private long serviceTimerCount(Class<?> serviceClass, String method) {
+        Timer timer = meterRegistry.find("app.service")
+                .tag("class", serviceClass.getName())
+                .tag("method", method)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
 }
@@ -1,8 +1,14 @@
 package com.back.domain.auth.controller;
 
 
+import com.back.domain.auth.entity.RefreshToken;
+import com.back.domain.auth.repository.RefreshTokenRepository;
+import com.back.domain.auth.scheduler.RefreshTokenPurgeScheduler;
+import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
+import com.back.global.security.jwt.TokenHasher;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +20,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,6 +39,12 @@ class AuthControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RefreshTokenPurgeScheduler refreshTokenPurgeScheduler;
+
     ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -202,4 +217,88 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("토큰 갱신 - 리프레시 토큰은 해시로만 저장되고, 갱신하면 이전 토큰은 비활성화된다")
+    void refreshRotatesHashedToken() throws Exception {
+        Cookie cookie = loginAsUser1();
+        String refreshToken = cookie.getValue();
+        String hash = TokenHasher.sha256Hex(refreshToken);
+
+        assertThat(hash).hasSize(TokenHasher.HASH_LENGTH);
+        assertThat(refreshTokenRepository.findValidToken(hash, LocalDateTime.now())).isPresent();
+
+        mockMvc.perform(post("/api/v1/auth/refresh").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists("refreshToken"))
+                .andExpect(jsonPath("$.email").value("user1@user.com"));
+
+        assertThat(refreshTokenRepository.findValidToken(hash, LocalDateTime.now())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 실패 - 이미 사용한 리프레시 토큰은 다시 쓸 수 없다")
+    void refreshWithReusedToken() throws Exception {
+        Cookie cookie = loginAsUser1();
+
+        mockMvc.perform(post("/api/v1/auth/refresh").cookie(cookie))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/refresh").cookie(cookie))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 실패 - 로그아웃한 리프레시 토큰")
+    void refreshAfterLogout() throws Exception {
+        Cookie cookie = loginAsUser1();
+
+        mockMvc.perform(post("/api/v1/auth/logout").cookie(cookie))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/refresh").cookie(cookie))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 정리 배치는 비활성/만료 토큰만 삭제한다")
+    void purgeExpiredAndInactiveTokens() {
+        Member member = memberRepository.findById(4).get();
+        RefreshToken valid = saveToken(member, "valid", LocalDateTime.now().plusDays(1));
+        RefreshToken expired = saveToken(member, "expired", LocalDateTime.now().minusDays(1));
+        RefreshToken inactive = saveToken(member, "inactive", LocalDateTime.now().plusDays(1));
+        inactive.deactivate();
+
+        refreshTokenPurgeScheduler.purge();
+
+        assertThat(refreshTokenRepository.existsById(valid.getId())).isTrue();
+        assertThat(refreshTokenRepository.existsById(expired.getId())).isFalse();
+        assertThat(refreshTokenRepository.existsById(inactive.getId())).isFalse();
+    }
+
+    private Cookie loginAsUser1() throws Exception {
+        return mockMvc
+                .perform(
+                        post("/api/v1/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "email": "user1@user.com",
+                                            "password": "111111"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getCookie("refreshToken");
+    }
+
+    private RefreshToken saveToken(Member member, String token, LocalDateTime expiryDate) {
+        return refreshTokenRepository.save(RefreshToken.builder()
+                .token(token)
+                .member(member)
+                .issuedAt(LocalDateTime.now())
+                .expiryDate(expiryDate)
+                .build());
+    }
 }
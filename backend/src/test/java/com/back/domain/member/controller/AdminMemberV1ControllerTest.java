@@ -0,0 +1,112 @@
+package com.back.domain.member.controller;
+
+import com.back.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class AdminMemberV1ControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("회원 목록 페이지 - nextCursor 로 이어서 조회하고 전체 회원 수를 함께 반환")
+    void getMemberPage() throws Exception {
+        int total = memberRepository.findAllActive().size();
+
+        JsonNode first = getPage("/api/v1/admin/members/page?size=3");
+        assertThat(first.get("content")).hasSize(3);
+        assertThat(first.get("hasNext").asBoolean()).isTrue();
+        assertThat(first.get("totalCount").asLong()).isEqualTo(total);
+
+        JsonNode second = getPage("/api/v1/admin/members/page?size=3&cursor=" + first.get("nextCursor").asText());
+        int lastIdOfFirst = first.get("content").get(2).get("id").asInt();
+        assertThat(second.get("content").get(0).get("id").asInt()).isLessThan(lastIdOfFirst);
+        assertThat(second.get("totalCount").asLong()).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("회원 목록 페이지 - 역할 필터, 반환한 회원은 마스킹")
+    void getMemberPage_role() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/members/page").param("role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[*].maskedEmail", hasItem("a***@test.com")))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("회원 목록 페이지 - 상태가 바뀌면 캐시된 회원 수도 갱신된다")
+    void getMemberPage_countEvictedOnStatusChange() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/members/page").param("status", "INACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(0));
+
+        mockMvc.perform(patch("/api/v1/admin/members/4/deactivate"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/admin/members/page").param("status", "INACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(4))
+                .andExpect(jsonPath("$.content[0].status").value("INACTIVE"));
+    }
+
+    @Test
+    @DisplayName("회원 목록 페이지 - 가입일 범위 필터")
+    void getMemberPage_createdRange() throws Exception {
+        String tomorrow = LocalDate.now().plusDays(1).toString();
+
+        mockMvc.perform(get("/api/v1/admin/members/page").param("createdFrom", tomorrow))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(0))
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("회원 목록 페이지 - 잘못된 필터 값은 400")
+    void getMemberPage_invalidStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/members/page").param("status", "DELETED"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"));
+    }
+
+    private JsonNode getPage(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -1,6 +1,10 @@
 package com.back.domain.member.controller;
 
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.entity.Snapshot;
 import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.member.repository.SnapshotRepository;
+import com.back.domain.member.scheduler.SnapshotBatchScheduler;
 import com.back.global.security.jwt.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +20,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -33,6 +40,12 @@ class SnapShotControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private SnapshotRepository snapshotRepository;
+
+    @Autowired
+    private SnapshotBatchScheduler snapshotBatchScheduler;
+
     @Autowired
     JwtUtil jwtutil;
 
@@ -47,12 +60,14 @@ class SnapShotControllerTest {
     @Test
     @DisplayName("스냅샷 등록")
     void createSnapShot() throws Exception {
-        mockMvc.perform(post("/api/v1/snapshot/save?totalAsset=10000")
+        mockMvc.perform(post("/api/v1/snapshot/save")
                         .contentType(MediaType.APPLICATION_JSON)
                         .header("Authorization", "Bearer " + token)
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.msg").value("스냅샷을 저장했습니다."));
+                .andExpect(jsonPath("$.msg").value("스냅샷을 저장했습니다."))
+                // 유저1 자산 합(289,156,000) + 계좌 잔액 합(30,000)
+                .andExpect(jsonPath("$.data").value(289186000L));
     }
 
     @Test
@@ -64,4 +79,44 @@ class SnapShotControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.msg").value("스냅샷을 정상적으로 불러왔습니다."));
     }
+
+    @Test
+    @DisplayName("스냅샷 배치는 전체 회원의 이번 달 스냅샷을 서버에서 계산해 저장한다")
+    void snapshotBatch() {
+        snapshotBatchScheduler.snapshotAllMembers();
+
+        YearMonth now = YearMonth.now();
+        Member user1 = memberRepository.findById(4).get();
+        Snapshot snapshot = snapshotRepository.findByMemberAndYearAndMonth(user1, now.getYear(), now.getMonthValue()).get();
+        assertThat(snapshot.getTotalAsset()).isEqualTo(289186000L);
+
+        // 스냅샷이 없던 회원도 저장된다 (관리자: 자산/계좌 없음)
+        Member admin = memberRepository.findById(1).get();
+        assertThat(snapshotRepository.findByMemberAndYearAndMonth(admin, now.getYear(), now.getMonthValue()))
+                .get()
+                .extracting(Snapshot::getTotalAsset)
+                .isEqualTo(0L);
+
+        // 보관 기간(6개월) 안의 데이터만 남는다
+        assertThat(snapshotRepository.findByMemberOrderByYearAscMonthAsc(user1)).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("같은 달 스냅샷을 여러 번 저장해도 회원/연월당 한 행만 남는다")
+    void snapshotUpsert() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/snapshot/save")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+        snapshotBatchScheduler.snapshotAllMembers();
+
+        YearMonth now = YearMonth.now();
+        Member user1 = memberRepository.findById(4).get();
+        assertThat(snapshotRepository.findByMemberOrderByYearAscMonthAsc(user1))
+                .filteredOn(s -> s.getYear() == now.getYear() && s.getMonth() == now.getMonthValue())
+                .singleElement()
+                .extracting(Snapshot::getTotalAsset)
+                .isEqualTo(289186000L);
+    }
 }
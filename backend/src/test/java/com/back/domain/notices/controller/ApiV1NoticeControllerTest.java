@@ -4,22 +4,32 @@ import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.notices.entity.Notice;
 import com.back.domain.notices.repository.NoticeRepository;
+import com.back.domain.notices.service.NoticeViewCounter;
 import com.back.global.security.jwt.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +51,15 @@ class ApiV1NoticeControllerTest {
     @Autowired
     JwtUtil jwtUtil;
 
+    @Autowired
+    private NoticeViewCounter noticeViewCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     ObjectMapper objectMapper = new ObjectMapper();
 
     private Member adminMember;
@@ -106,6 +125,56 @@ class ApiV1NoticeControllerTest {
                 .andExpect(jsonPath("$.data.content").value("테스트 내용입니다."));
     }
 
+    @Test
+    @DisplayName("공지사항 단건 조회 - 조회수는 쓰기 없이 누적되고 반영 후에도 유지된다")
+    void getNoticeById_views() throws Exception {
+        mockMvc.perform(get("/api/v1/notices/" + testNotice.getId()))
+                .andExpect(jsonPath("$.data.views").value(1));
+        mockMvc.perform(get("/api/v1/notices/" + testNotice.getId()))
+                .andExpect(jsonPath("$.data.views").value(2));
+
+        // 조회 경로에서는 엔티티가 변경되지 않는다
+        assertThat(noticeRepository.findById(testNotice.getId()).get().getViews()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("공지사항 조회수 반영 - 쌓인 조회수가 DB 에 더해지고 대기 항목은 비워진다")
+    void flushViews() throws Exception {
+        mockMvc.perform(get("/api/v1/notices/" + testNotice.getId()));
+        mockMvc.perform(get("/api/v1/notices/" + testNotice.getId()));
+
+        noticeViewCounter.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT views FROM notice WHERE id = ?", Integer.class, testNotice.getId()))
+                .isEqualTo(2);
+        assertThat(noticeViewCounter.getPending(testNotice.getId())).isZero();
+
+        // 반영 후에도 응답의 조회수는 이어진다
+        mockMvc.perform(get("/api/v1/notices/" + testNotice.getId()))
+                .andExpect(jsonPath("$.data.views").value(3));
+    }
+
+    @Test
+    @DisplayName("공지사항 수정 - 그 사이 반영된 조회수를 엔티티 저장이 덮어쓰지 않는다")
+    void updateNotice_keepsFlushedViews() throws Exception {
+        // 수정 요청이 공지를 읽은 뒤 조회수 반영이 먼저 커밋된 상황
+        jdbcTemplate.update("UPDATE notice SET views = 7 WHERE id = ?", testNotice.getId());
+
+        mockMvc.perform(put("/api/v1/notices/" + testNotice.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content("""
+                                {
+                                    "title": "조회수 보존 확인"
+                                }
+                                """))
+                .andExpect(status().isOk());
+        entityManager.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT views FROM notice WHERE id = ?", Integer.class, testNotice.getId()))
+                .isEqualTo(7);
+    }
+
     @Test
     @DisplayName("공지사항 생성 - 관리자 권한")
     void createNotice_Success() throws Exception {
@@ -171,4 +240,134 @@ class ApiV1NoticeControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("200-1"))
                 .andExpect(jsonPath("$.msg").value("공지사항이 삭제되었습니다."));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("공지사항 검색 - 제목과 내용을 함께 검색하고 제목 일치가 먼저 나온다")
+    void searchNotices() throws Exception {
+        mockMvc.perform(get("/api/v1/notices").param("search", "점검"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("시스템 점검 안내"));
+
+        // 내용에만 있는 단어
+        mockMvc.perform(get("/api/v1/notices").param("search", "생체 인증"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[*].title", hasItem("모바일 앱 출시 안내")));
+    }
+
+    @Test
+    @DisplayName("공지사항 검색 - 생성/수정/삭제가 색인에 바로 반영된다")
+    void searchNotices_indexUpdated() throws Exception {
+        String created = mockMvc.perform(post("/api/v1/notices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content("""
+                                {
+                                    "title": "얼룩말 사육 안내",
+                                    "content": "동물원 소식입니다."
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        int id = objectMapper.readTree(created).get("data").get("id").asInt();
+
+        mockMvc.perform(get("/api/v1/notices").param("search", "얼룩말"))
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(id));
+
+        mockMvc.perform(put("/api/v1/notices/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content("""
+                                {
+                                    "title": "기린 사육 안내"
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/notices").param("search", "얼룩말"))
+                .andExpect(jsonPath("$.data.totalElements").value(0));
+        mockMvc.perform(get("/api/v1/notices").param("search", "기린 동물원"))
+                .andExpect(jsonPath("$.data.content[0].id").value(id));
+
+        mockMvc.perform(delete("/api/v1/notices/" + id)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/notices").param("search", "기린"))
+                .andExpect(jsonPath("$.data.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("공지사항 단건 조회 - ETag 가 같으면 304")
+    void getNoticeById_notModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/notices/" + testNotice.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/notices/" + testNotice.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 조회 - ETag 가 같으면 304, 공지가 바뀌면 새 응답")
+    void getAllNotices_notModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/notices"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/notices").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/notices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content("""
+                                {
+                                    "title": "캐시 확인 공지",
+                                    "content": "캐시 확인 내용입니다."
+                                }
+                                """))
+                .andExpect(status().isCreated());
+
+        String changedETag = mockMvc.perform(get("/api/v1/notices").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 조회 - 조회수가 바뀌면 ETag 도 바뀐다 (본문 기준 약한 ETag)")
+    void getAllNotices_eTagFollowsViews() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/api/v1/notices").param("search", "점검"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+                .andReturn().getResponse();
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+        int noticeId = objectMapper.readTree(first.getContentAsString()).at("/data/content/0/id").asInt();
+
+        mockMvc.perform(get("/api/v1/notices/" + noticeId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/notices").param("search", "점검").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 조회 - 페이지 크기는 1~50 으로 맞춘다")
+    void getAllNotices_sizeClamped() throws Exception {
+        mockMvc.perform(get("/api/v1/notices").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(50));
+
+        mockMvc.perform(get("/api/v1/notices").param("size", "0").param("page", "-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(5))
+                .andExpect(jsonPath("$.data.number").value(0));
+    }
+}
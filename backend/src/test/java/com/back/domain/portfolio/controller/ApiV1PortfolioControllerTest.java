@@ -0,0 +1,63 @@
+package com.back.domain.portfolio.controller;
+
+import com.back.global.security.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApiV1PortfolioControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = jwtUtil.generateToken("user1@user.com", 4, "USER");
+    }
+
+    @Test
+    @DisplayName("순자산 요약 - 자산 유형별/계좌 합계와 비중")
+    void getSummary() throws Exception {
+        // 초기 데이터: 예금 210,000 / 주식 3,946,000 / 부동산 285,000,000 / 계좌 30,000
+        mvc.perform(get("/api/v1/portfolio/summary")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data.totalAmount").value(289186000L))
+                .andExpect(jsonPath("$.data.assetAmount").value(289156000L))
+                .andExpect(jsonPath("$.data.accountAmount").value(30000))
+                .andExpect(jsonPath("$.data.allocations.length()").value(4))
+                .andExpect(jsonPath("$.data.allocations[0].category").value("REAL_ESTATE"))
+                .andExpect(jsonPath("$.data.allocations[0].amount").value(285000000))
+                .andExpect(jsonPath("$.data.allocations[0].count").value(3))
+                .andExpect(jsonPath("$.data.allocations[0].percentage").value(98.55))
+                .andExpect(jsonPath("$.data.allocations[3].category").value("ACCOUNT"))
+                .andExpect(jsonPath("$.data.allocations[3].count").value(2));
+    }
+
+    @Test
+    @DisplayName("순자산 요약 - 인증 없이 호출하면 거부")
+    void getSummary_unauthenticated() throws Exception {
+        mvc.perform(get("/api/v1/portfolio/summary"))
+                .andExpect(status().is4xxClientError());
+    }
+}
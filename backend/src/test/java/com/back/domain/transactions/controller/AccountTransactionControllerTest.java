@@ -5,6 +5,7 @@ import com.back.domain.account.repository.AccountRepository;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.transactions.entity.AccountTransaction;
 import com.back.domain.transactions.repository.AccountTransactionRepository;
+import com.back.global.perf.RequestBudget;
 import com.back.global.security.jwt.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,13 +18,16 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @Transactional
@@ -120,4 +124,108 @@ class AccountTransactionControllerTest {
                 .andExpect(jsonPath("$.length()").value(5))
                 .andReturn();
     }
+
+    @Test
+    @DisplayName("계좌 거래 내역 내보내기 - CSV")
+    void exportAccTransactionCsv() throws Exception {
+        MvcResult asyncResult = mvc.perform(get("/api/v1/transactions/account/export")
+                        .header("Authorization", "Bearer " + token)
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"account-transactions.csv\""))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).isEqualTo("id,accountId,type,amount,content,date");
+        assertThat(lines).hasSize(1 + 5);
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 내보내기 - NDJSON")
+    void exportAccTransactionNdjson() throws Exception {
+        MvcResult asyncResult = mvc.perform(get("/api/v1/transactions/account/export")
+                        .header("Authorization", "Bearer " + token)
+                        .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(5);
+        for (String line : lines) {
+            assertThat(objectMapper.readTree(line).get("accountId").asInt()).isIn(1, 2);
+        }
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 내보내기 - 지원하지 않는 형식")
+    void exportAccTransactionUnsupportedFormat() throws Exception {
+        mvc.perform(get("/api/v1/transactions/account/export")
+                        .header("Authorization", "Bearer " + token)
+                        .param("format", "xml"))
+                .andExpect(jsonPath("$.resultCode").value("400-1"));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 일괄 가져오기 - 잔액은 배치 단위로 반영되고 잔액을 넘는 출금은 실패한다")
+    void importAccTransactionCsv() throws Exception {
+        long before = accountRepository.findById(1).get().getBalance();
+
+        String csv = """
+                id,accountId,type,amount,content,date
+                ,1,ADD,5000,"급여, 7월",2024-07-25T09:00:00
+                ,1,REMOVE,999999999,과다 출금,2024-07-26T09:00:00
+                ,1,REMOVE,3000,'=SUM(A1),2024-07-27T09:00:00
+                ,1,ADD,-1,음수,2024-07-28T09:00:00
+                """;
+
+        mvc.perform(post("/api/v1/transactions/account/1/import")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(4))
+                .andExpect(jsonPath("$.data.importedRows").value(2))
+                .andExpect(jsonPath("$.data.failedRows").value(2))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].message").value("잔액이 부족합니다."))
+                .andExpect(jsonPath("$.data.errors[1].row").value(4));
+
+        assertThat(accountRepository.findById(1).get().getBalance()).isEqualTo(before + 5000 - 3000);
+        assertThat(accountTransactionRepository.findByAccount_Id(1))
+                .anyMatch(tx -> "=SUM(A1)".equals(tx.getContent()))
+                .anyMatch(tx -> "급여, 7월".equals(tx.getContent()));
+    }
+
+    @Test
+    @DisplayName("거래 목록(다건) 조회 - 쿼리 예산 1회")
+    @WithMockUser
+    void findAccTransactionAll_budget() throws Exception {
+        RequestBudget.of("GET /api/v1/transactions/account")
+                .maxQueries(1)
+                .maxJdbcTime(Duration.ofMillis(500))
+                .maxAllocatedBytes(64L * 1024 * 1024)
+                .perform(mvc, get("/api/v1/transactions/account"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(7));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 일괄 조회 - 쿼리 예산 1회")
+    @WithMockUser
+    void findAccTransactionsBulk_budget() throws Exception {
+        RequestBudget.of("GET /api/v1/transactions/account/search/bulk")
+                .maxQueries(1)
+                .maxJdbcTime(Duration.ofMillis(500))
+                .perform(mvc, get("/api/v1/transactions/account/search/bulk").param("ids", "1,2"))
+                .andExpect(status().isOk());
+    }
 }
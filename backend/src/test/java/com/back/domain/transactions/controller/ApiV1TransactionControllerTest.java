@@ -5,18 +5,26 @@ import com.back.domain.asset.repository.AssetRepository;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.transactions.dto.CreateTransactionRequestDto;
 import com.back.domain.transactions.service.TransactionService;
+import com.back.global.perf.RequestBudget;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -65,4 +73,148 @@ class ApiV1TransactionControllerTest {
                 .andExpect(jsonPath("$.msg").value("거래가 등록되었습니다."))
                 .andExpect(jsonPath("$.data").exists());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 검색 API는 커서로 다음 페이지를 이어서 조회한다")
+    void searchTransactions_커서_페이지네이션() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/v1/transactions/asset/search")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode firstData = objectMapper.readTree(firstPage).path("data");
+        int lastIdOfFirstPage = firstData.path("content").get(1).path("id").asInt();
+
+        mockMvc.perform(get("/api/v1/transactions/asset/search")
+                        .param("size", "2")
+                        .param("cursor", firstData.path("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].id").value(not(lastIdOfFirstPage)));
+    }
+
+    @Test
+    @DisplayName("거래 검색 API는 잘못된 커서를 거부한다")
+    void searchTransactions_잘못된_커서() throws Exception {
+        mockMvc.perform(get("/api/v1/transactions/asset/search")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(jsonPath("$.resultCode").value("400-1"));
+    }
+
+    @Test
+    @DisplayName("월간 집계는 거래 등록/삭제 시 함께 갱신된다")
+    void monthlySummary_거래_등록_삭제_반영() throws Exception {
+        Asset asset = assetRepository.findById(1).get();
+
+        int transactionId = transactionService.createTransaction(new CreateTransactionRequestDto(
+                asset.getId(), "REMOVE", 5000L, "테스트", "2024-07-23T15:00:00")).getId();
+
+        // 초기 데이터(2025-07 ADD 30000) + 등록한 거래(2024-07 REMOVE 5000)
+        mockMvc.perform(get("/api/v1/transactions/asset/summary/bulk")
+                        .param("ids", String.valueOf(asset.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data['1'].length()").value(2))
+                .andExpect(jsonPath("$.data['1'][0].year").value(2024))
+                .andExpect(jsonPath("$.data['1'][0].removeAmount").value(5000))
+                .andExpect(jsonPath("$.data['1'][0].netAmount").value(-5000))
+                .andExpect(jsonPath("$.data['1'][1].year").value(2025))
+                .andExpect(jsonPath("$.data['1'][1].addAmount").value(30000))
+                .andExpect(jsonPath("$.data['1'][1].addCount").value(1));
+
+        transactionService.deleteById(transactionId);
+
+        mockMvc.perform(get("/api/v1/transactions/asset/summary/bulk")
+                        .param("ids", String.valueOf(asset.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data['1'][0].removeAmount").value(0))
+                .andExpect(jsonPath("$.data['1'][0].removeCount").value(0));
+    }
+
+    @Test
+    @DisplayName("거래 일괄 가져오기는 잘못된 행만 건너뛰고 나머지를 저장한다")
+    @WithUserDetails("user1@user.com")
+    void importTransactions_행_단위_오류() throws Exception {
+        int before = transactionService.findByAssetId(1).size();
+
+        String body = """
+                [
+                  {"type": "ADD", "amount": 1000, "content": "가져오기1", "date": "2024-01-05T09:00:00"},
+                  {"type": "REMOVE", "amount": "2000", "content": "가져오기2", "date": "2024-01-06T09:00:00"},
+                  {"type": "ADD", "amount": 3000, "content": "날짜 오류", "date": "2024-13-01"},
+                  {"type": "MOVE", "amount": 4000, "content": "유형 오류", "date": "2024-01-07T09:00:00"}
+                ]
+                """;
+
+        mockMvc.perform(post("/api/v1/transactions/asset/1/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data.totalRows").value(4))
+                .andExpect(jsonPath("$.data.importedRows").value(2))
+                .andExpect(jsonPath("$.data.failedRows").value(2))
+                .andExpect(jsonPath("$.data.errors[0].row").value(3))
+                .andExpect(jsonPath("$.data.errors[1].row").value(4));
+
+        assertThat(transactionService.findByAssetId(1)).hasSize(before + 2);
+
+        // 배치 단위로 합쳐 반영된 월간 집계
+        mockMvc.perform(get("/api/v1/transactions/asset/summary/bulk")
+                        .param("ids", "1"))
+                .andExpect(jsonPath("$.data['1'][0].year").value(2024))
+                .andExpect(jsonPath("$.data['1'][0].month").value(1))
+                .andExpect(jsonPath("$.data['1'][0].addAmount").value(1000))
+                .andExpect(jsonPath("$.data['1'][0].removeAmount").value(2000));
+    }
+
+    @Test
+    @DisplayName("거래 일괄 가져오기 중 JSON 이 깨지면 그 전까지 저장한 건수와 함께 행 오류로 알려준다")
+    @WithUserDetails("user1@user.com")
+    void importTransactions_JSON_중간_오류() throws Exception {
+        int before = transactionService.findByAssetId(1).size();
+
+        String body = """
+                [
+                  {"type": "ADD", "amount": 1000, "content": "가져오기1", "date": "2024-01-05T09:00:00"},
+                  {"type": "ADD", "amount": 2000, "content": "가져오기2", "date": "2024-01-06T09:00:00"},
+                  {"type": "ADD", "amount": 3000, "content": "깨진 행", "date": "2024-01-07T09:00:00"
+                  {"type": "ADD", "amount": 4000, "content": "읽지 못함", "date": "2024-01-08T09:00:00"}
+                ]
+                """;
+
+        mockMvc.perform(post("/api/v1/transactions/asset/1/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(3))
+                .andExpect(jsonPath("$.data.importedRows").value(2))
+                .andExpect(jsonPath("$.data.failedRows").value(1))
+                .andExpect(jsonPath("$.data.errors[0].row").value(3));
+
+        assertThat(transactionService.findByAssetId(1)).hasSize(before + 2);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 자산으로는 거래를 가져올 수 없다")
+    @WithUserDetails("user1@user.com")
+    void importTransactions_타인_자산() throws Exception {
+        mockMvc.perform(post("/api/v1/transactions/asset/9/import")
+                        .contentType("text/csv")
+                        .content("type,amount,content,date\nADD,1000,메모,2024-01-05T09:00:00\n"))
+                .andExpect(jsonPath("$.resultCode").value("404-1"));
+    }
+
+    @Test
+    @DisplayName("자산 거래 일괄 조회는 쿼리 예산(1회) 안에서 처리된다")
+    void searchBulk_쿼리_예산() throws Exception {
+        RequestBudget.of("GET /api/v1/transactions/asset/search/bulk")
+                .maxQueries(1)
+                .maxJdbcTime(Duration.ofMillis(500))
+                .maxAllocatedBytes(64L * 1024 * 1024)
+                .perform(mockMvc, get("/api/v1/transactions/asset/search/bulk").param("ids", "1,4,6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+    }
+}
@@ -0,0 +1,186 @@
+package com.back.domain.transactions.controller;
+
+import com.back.domain.account.entity.Account;
+import com.back.domain.account.repository.AccountRepository;
+import com.back.domain.asset.entity.Asset;
+import com.back.domain.asset.entity.AssetType;
+import com.back.domain.asset.repository.AssetRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.transactions.entity.AccountTransaction;
+import com.back.domain.transactions.entity.Transaction;
+import com.back.domain.transactions.entity.TransactionType;
+import com.back.domain.transactions.repository.AccountTransactionRepository;
+import com.back.domain.transactions.repository.TransactionRepository;
+import com.back.global.jpa.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 거래 목록 API 의 쿼리 수 검증
+// 부모(자산/계좌)가 다른 거래를 더 넣어도 실행되는 문장 수가 그대로여야 한다 (N+1 이면 늘어남)
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class TransactionQueryCountTest {
+    private static final int EXTRA_PARENTS = 3;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountTransactionRepository accountTransactionRepository;
+
+    private StatementCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManager, entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("자산 거래 전체 조회 - 1회")
+    void findAll() throws Exception {
+        assertStatementCount(1, this::addAssetTransactions, () -> "/api/v1/transactions/asset");
+    }
+
+    @Test
+    @DisplayName("자산 거래 검색 - 1회")
+    void search() throws Exception {
+        assertStatementCount(1, this::addAssetTransactions, () -> "/api/v1/transactions/asset/search?size=100");
+    }
+
+    @Test
+    @DisplayName("자산 거래 일괄 조회 - 1회")
+    void searchBulk() throws Exception {
+        List<Integer> ids = new ArrayList<>(List.of(1, 4, 6));
+        assertStatementCount(1, () -> ids.addAll(addAssetTransactions()),
+                () -> "/api/v1/transactions/asset/search/bulk?ids=" + join(ids));
+    }
+
+    @Test
+    @DisplayName("특정 자산의 거래 목록 - 자산 확인 1회 + 목록 1회")
+    void findByAssetId() throws Exception {
+        Member member = memberRepository.findById(4).get();
+        Asset asset = assetRepository.save(new Asset(member, "쿼리 수", AssetType.STOCK, 1000L, true));
+
+        assertStatementCount(2, () -> addTransactions(asset, EXTRA_PARENTS),
+                () -> "/api/v1/transactions/asset/search/" + asset.getId());
+    }
+
+    @Test
+    @DisplayName("계좌 거래 전체 조회 - 1회")
+    void findAllAccountTransactions() throws Exception {
+        assertStatementCount(1, this::addAccountTransactions, () -> "/api/v1/transactions/account");
+    }
+
+    @Test
+    @DisplayName("계좌 거래 일괄 조회 - 1회")
+    void searchAccountBulk() throws Exception {
+        List<Integer> ids = new ArrayList<>(List.of(1, 2));
+        assertStatementCount(1, () -> ids.addAll(addAccountTransactions()),
+                () -> "/api/v1/transactions/account/search/bulk?ids=" + join(ids));
+    }
+
+    // 데이터를 늘리기 전과 후 모두 expected 회인지 확인
+    private void assertStatementCount(long expected, Runnable addRows, Supplier<String> url) throws Exception {
+        assertThat(measure(url.get())).as("초기 데이터").isEqualTo(expected);
+
+        addRows.run();
+
+        assertThat(measure(url.get())).as("부모가 다른 거래 추가 후").isEqualTo(expected);
+    }
+
+    private long measure(String url) throws Exception {
+        counter.reset();
+        mvc.perform(get(url)).andExpect(status().isOk());
+        return counter.count();
+    }
+
+    // 새 자산 EXTRA_PARENTS 개에 거래를 2건씩 추가하고 자산 id 목록 반환
+    private List<Integer> addAssetTransactions() {
+        Member member = memberRepository.findById(4).get();
+        List<Integer> assetIds = new ArrayList<>();
+        for (int i = 0; i < EXTRA_PARENTS; i++) {
+            Asset asset = assetRepository.save(new Asset(member, "쿼리 수 " + i, AssetType.DEPOSIT, 1000L, true));
+            addTransactions(asset, 2);
+            assetIds.add(asset.getId());
+        }
+        return assetIds;
+    }
+
+    private void addTransactions(Asset asset, int count) {
+        for (int i = 0; i < count; i++) {
+            transactionRepository.save(Transaction.builder()
+                    .asset(asset)
+                    .type(TransactionType.ADD)
+                    .amount(100L)
+                    .content("쿼리 수")
+                    .date(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(i))
+                    .build());
+        }
+    }
+
+    // 새 계좌 EXTRA_PARENTS 개에 거래를 2건씩 추가하고 계좌 id 목록 반환
+    private List<Integer> addAccountTransactions() {
+        Member member = memberRepository.findById(4).get();
+        List<Integer> accountIds = new ArrayList<>();
+        for (int i = 0; i < EXTRA_PARENTS; i++) {
+            Account account = accountRepository.save(new Account(member, "query-count-" + i, 1000L, "쿼리 수 " + i));
+            for (int j = 0; j < 2; j++) {
+                accountTransactionRepository.save(AccountTransaction.builder()
+                        .account(account)
+                        .type(TransactionType.ADD)
+                        .amount(100L)
+                        .content("쿼리 수")
+                        .date(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(j))
+                        .build());
+            }
+            accountIds.add(account.getId());
+        }
+        return accountIds;
+    }
+
+    private static String join(List<Integer> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,136 @@
+package com.back.domain.transactions.service;
+
+import com.back.domain.account.entity.Account;
+import com.back.domain.account.repository.AccountRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.transactions.dto.CreateAccTracRequestDto;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
+import com.back.domain.transactions.repository.AccountTransactionRepository;
+import com.back.domain.transactions.repository.TransactionMonthlySummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 입출금 시 잔액 갱신이 유실되지 않는지 확인하는 스트레스 테스트
+// 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 @Transactional 을 붙이지 않고, 만든 데이터는 직접 정리한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountTransactionConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 25;
+
+    @Autowired
+    private AccountTransactionService accountTransactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountTransactionRepository accountTransactionRepository;
+
+    @Autowired
+    private TransactionMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.findById(4).get();
+        account = accountRepository.save(new Account(member, "stress-" + System.nanoTime(), 10_000L, "동시성 테스트"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountTransactionRepository.deleteAll(accountTransactionRepository.findByAccount_Id(account.getId()));
+        summaryRepository.deleteAll(summaryRepository.findByTargetTypeAndTargetIdInOrderByTargetIdAscYearAscMonthAsc(
+                SummaryTarget.ACCOUNT, List.of(account.getId())));
+        accountRepository.deleteById(account.getId());
+    }
+
+    @Test
+    @DisplayName("동시 출금은 잔액을 넘지 않고, 성공한 출금만큼 정확히 차감된다")
+    void concurrentWithdrawals() throws Exception {
+        // 16 * 25 * 100 = 40,000 출금 요청, 잔액 10,000 → 정확히 100건만 성공해야 함
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+
+        runConcurrently(() -> {
+            try {
+                accountTransactionService.createAccountTransaction(request("REMOVE", 100L), member);
+                success.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                insufficient.incrementAndGet();
+            }
+        });
+
+        assertThat(success.get()).isEqualTo(100);
+        assertThat(insufficient.get()).isEqualTo(THREADS * REQUESTS_PER_THREAD - 100);
+        assertThat(accountRepository.findById(account.getId()).get().getBalance()).isZero();
+        assertThat(accountTransactionRepository.findByAccount_Id(account.getId())).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("입금과 출금이 섞여도 최종 잔액은 성공한 거래의 합과 일치한다")
+    void concurrentDepositsAndWithdrawals() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        AtomicInteger deposits = new AtomicInteger();
+        AtomicInteger withdrawals = new AtomicInteger();
+
+        runConcurrently(() -> {
+            boolean deposit = counter.getAndIncrement() % 2 == 0;
+            try {
+                accountTransactionService.createAccountTransaction(request(deposit ? "ADD" : "REMOVE", 70L), member);
+                (deposit ? deposits : withdrawals).incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                // 잔액 부족 출금은 실패해도 된다
+            }
+        });
+
+        long expected = 10_000L + 70L * deposits.get() - 70L * withdrawals.get();
+        assertThat(accountRepository.findById(account.getId()).get().getBalance()).isEqualTo(expected);
+        assertThat(accountTransactionRepository.findByAccount_Id(account.getId()))
+                .hasSize(deposits.get() + withdrawals.get());
+    }
+
+    private CreateAccTracRequestDto request(String type, long amount) {
+        return new CreateAccTracRequestDto(account.getId(), type, amount, "동시성", "2025-07-15T10:00:00");
+    }
+
+    private void runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    task.run();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+    }
+}
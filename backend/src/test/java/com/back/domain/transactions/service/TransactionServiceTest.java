@@ -27,7 +27,9 @@ class TransactionServiceTest {
 
         // 2. 테스트용 서비스 생성
         AccountRepository accountRepository = Mockito.mock(AccountRepository.class);
-        TransactionService transactionService = new TransactionService(transactionRepository, assetRepository, accountRepository);
+        TransactionSummaryService transactionSummaryService = Mockito.mock(TransactionSummaryService.class);
+        TransactionService transactionService = new TransactionService(
+                transactionRepository, assetRepository, accountRepository, transactionSummaryService);
 
         // 3. 테스트용 데이터 준비
         Asset asset = Asset.builder().build();
@@ -0,0 +1,122 @@
+package com.back.domain.transactions.service;
+
+import com.back.domain.asset.entity.Asset;
+import com.back.domain.asset.entity.AssetType;
+import com.back.domain.asset.repository.AssetRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.transactions.dto.CreateTransactionRequestDto;
+import com.back.domain.transactions.entity.TransactionMonthlySummary;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
+import com.back.domain.transactions.repository.TransactionMonthlySummaryRepository;
+import com.back.domain.transactions.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 자산/월의 첫 거래가 동시에 들어와도 월간 집계 행 생성이 충돌하지 않는지 확인하는 스트레스 테스트
+// 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 @Transactional 을 붙이지 않고, 만든 데이터는 직접 정리한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionSummaryConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 25;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Asset asset;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.findById(4).get();
+        asset = assetRepository.save(new Asset(member, "stress-" + System.nanoTime(), AssetType.DEPOSIT, 0L, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteAll(transactionRepository.findByAsset_Id(asset.getId()));
+        summaryRepository.deleteAll(summaries());
+        assetRepository.deleteById(asset.getId());
+    }
+
+    @Test
+    @DisplayName("같은 월의 첫 거래가 동시에 생성되어도 모두 성공하고 집계는 한 행에 정확히 합산된다")
+    void concurrentFirstTransactionsOfMonth() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrently(() -> {
+            boolean add = counter.getAndIncrement() % 2 == 0;
+            try {
+                transactionService.createTransaction(new CreateTransactionRequestDto(
+                        asset.getId(), add ? "ADD" : "REMOVE", 10L, "동시성", "2025-07-15T10:00:00"));
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        });
+
+        int total = THREADS * REQUESTS_PER_THREAD;
+        assertThat(failures.get()).isZero();
+        assertThat(transactionRepository.findByAsset_Id(asset.getId())).hasSize(total);
+
+        List<TransactionMonthlySummary> summaries = summaries();
+        assertThat(summaries).hasSize(1);
+        TransactionMonthlySummary summary = summaries.get(0);
+        assertThat(summary.getYear()).isEqualTo(2025);
+        assertThat(summary.getMonth()).isEqualTo(7);
+        assertThat(summary.getAddCount() + summary.getRemoveCount()).isEqualTo(total);
+        assertThat(summary.getAddAmount()).isEqualTo(10L * summary.getAddCount());
+        assertThat(summary.getRemoveAmount()).isEqualTo(10L * summary.getRemoveCount());
+    }
+
+    private List<TransactionMonthlySummary> summaries() {
+        return summaryRepository.findByTargetTypeAndTargetIdInOrderByTargetIdAscYearAscMonthAsc(
+                SummaryTarget.ASSET, List.of(asset.getId()));
+    }
+
+    private void runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    task.run();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.back.global.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestTracingFilterTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @DisplayName("요청 id 가 없으면 새로 만들어 응답 헤더로 돌려준다")
+    void generatesRequestId() throws Exception {
+        String requestId = mvc.perform(get("/api/v1/notices"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(RequestTracingFilter.REQUEST_ID_HEADER);
+
+        assertThat(requestId).matches("[0-9a-f]{1,16}");
+    }
+
+    @Test
+    @DisplayName("안전한 형식의 X-Request-Id 는 그대로 이어서 쓴다")
+    void propagatesRequestId() throws Exception {
+        mvc.perform(get("/api/v1/notices").header(RequestTracingFilter.REQUEST_ID_HEADER, "gw-1234.abc"))
+                .andExpect(header().string(RequestTracingFilter.REQUEST_ID_HEADER, "gw-1234.abc"));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 X-Request-Id 는 버리고 새로 만든다 (로그 주입 방지)")
+    void rejectsUnsafeRequestId() throws Exception {
+        String requestId = mvc.perform(get("/api/v1/notices")
+                        .header(RequestTracingFilter.REQUEST_ID_HEADER, "abc\nforged=1"))
+                .andReturn().getResponse().getHeader(RequestTracingFilter.REQUEST_ID_HEADER);
+
+        assertThat(requestId).isNotEqualTo("abc\nforged=1").matches("[0-9a-f]{1,16}");
+    }
+
+    @Test
+    @DisplayName("인증 실패 응답에도 요청 id 가 붙는다")
+    void requestIdOnUnauthorized() throws Exception {
+        mvc.perform(get("/api/v1/assets/member"))
+                .andExpect(header().exists(RequestTracingFilter.REQUEST_ID_HEADER));
+    }
+}
@@ -0,0 +1,234 @@
+package com.back.global.jpa;
+
+import com.back.domain.account.repository.AccountRepository;
+import com.back.domain.asset.repository.AssetRepository;
+import com.back.domain.auth.repository.RefreshTokenRepository;
+import com.back.domain.member.entity.Member;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.member.repository.SnapshotRepository;
+import com.back.domain.transactions.entity.TransactionMonthlySummary.SummaryTarget;
+import com.back.domain.transactions.repository.AccountTransactionRepository;
+import com.back.domain.transactions.repository.TransactionMonthlySummaryRepository;
+import com.back.domain.transactions.repository.TransactionRepository;
+import com.back.global.perf.ExecutedQuery;
+import com.back.global.perf.RequestMetricsRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자주 호출되는 리포지토리 쿼리의 실행 계획 회귀 테스트
+// 실제 리포지토리 메서드를 호출해 Hibernate 가 만든 SQL 과 바인딩 값을 datasource-proxy 로 받아 H2 에서 EXPLAIN 하고,
+// 의도한 인덱스를 타는지 확인한다. (H2 는 FK 컬럼에 인덱스를 자동으로 만들어 "테이블 스캔 없음"만으로는 부족하다)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+    private static final int MEMBER_ID = 4;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 15, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountTransactionRepository accountTransactionRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private SnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TransactionMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    // 기대 인덱스는 모두 계획에 나와야 한다.
+    // "A|B" 는 둘 중 하나, "TABLE(COLUMN)" 은 이름이 자동 생성되는 인덱스(PK, FK, unique) 중 COLUMN 으로 시작하는 것
+    Stream<Arguments> hotQueries() {
+        return Stream.of(
+                // TransactionRepository
+                Arguments.of("findByAsset_Id",
+                        (Runnable) () -> transactionRepository.findByAsset_Id(1),
+                        List.of("IDX_TRANSACTION_ASSET_DATE")),
+                Arguments.of("findByAssetIdIn",
+                        (Runnable) () -> transactionRepository.findByAssetIdIn(List.of(1, 4, 6)),
+                        List.of("IDX_TRANSACTION_ASSET_DATE")),
+                Arguments.of("searchTransactions",
+                        (Runnable) () -> transactionRepository.searchTransactions(null, null, null, null, null, Limit.of(21)),
+                        List.of("IDX_TRANSACTION_DATE_ID")),
+                Arguments.of("searchTransactionsAfter",
+                        (Runnable) () -> transactionRepository.searchTransactionsAfter(
+                                null, null, null, null, null, NOW, 100, Limit.of(21)),
+                        List.of("IDX_TRANSACTION_DATE_ID")),
+                Arguments.of("streamByMemberId (자산 거래 내보내기)",
+                        (Runnable) () -> {
+                            try (var stream = transactionRepository.streamByMemberId(MEMBER_ID)) {
+                                stream.findFirst();
+                            }
+                        },
+                        List.of("IDX_ASSET_MEMBER_STATUS", "IDX_TRANSACTION_ASSET_DATE")),
+
+                // AccountTransactionRepository
+                Arguments.of("findByAccount_Id",
+                        (Runnable) () -> accountTransactionRepository.findByAccount_Id(1),
+                        List.of("IDX_ACCOUNT_TRANSACTION_ACCOUNT_DATE")),
+                Arguments.of("findByAccount_IdIn",
+                        (Runnable) () -> accountTransactionRepository.findByAccount_IdIn(List.of(1, 2)),
+                        List.of("IDX_ACCOUNT_TRANSACTION_ACCOUNT_DATE")),
+                Arguments.of("streamByMemberId (계좌 거래 내보내기)",
+                        (Runnable) () -> {
+                            try (var stream = accountTransactionRepository.streamByMemberId(MEMBER_ID)) {
+                                stream.findFirst();
+                            }
+                        },
+                        List.of("IDX_ACCOUNT_USER_DELETED", "IDX_ACCOUNT_TRANSACTION_ACCOUNT_DATE")),
+
+                // AssetRepository
+                Arguments.of("findAllByStatusTrueAndMemberId",
+                        (Runnable) () -> assetRepository.findAllByStatusTrueAndMemberId(MEMBER_ID),
+                        List.of("IDX_ASSET_MEMBER_STATUS")),
+                Arguments.of("existsByIdAndMemberIdAndStatusTrue",
+                        (Runnable) () -> assetRepository.existsByIdAndMemberIdAndStatusTrue(1, MEMBER_ID),
+                        List.of("ASSET(ID)|IDX_ASSET_MEMBER_STATUS")),
+
+                // AccountRepository
+                Arguments.of("findAllByMemberIdAndIsDeletedFalse",
+                        (Runnable) () -> accountRepository.findAllByMemberIdAndIsDeletedFalse(MEMBER_ID),
+                        List.of("IDX_ACCOUNT_USER_DELETED")),
+
+                // RefreshTokenRepository
+                Arguments.of("findValidToken",
+                        (Runnable) () -> refreshTokenRepository.findValidToken("0".repeat(64), NOW),
+                        List.of("IDX_REFRESH_TOKEN_VALID|REFRESH_TOKEN(TOKEN_HASH)")),
+                Arguments.of("findActiveTokenByMember",
+                        (Runnable) () -> refreshTokenRepository.findActiveTokenByMember(member()),
+                        List.of("REFRESH_TOKEN(MEMBER_ID)|IDX_REFRESH_TOKEN_PURGE")),
+                Arguments.of("findInactiveIds",
+                        (Runnable) () -> refreshTokenRepository.findInactiveIds(Limit.of(1000)),
+                        List.of("IDX_REFRESH_TOKEN_PURGE")),
+                Arguments.of("findExpiredIds",
+                        (Runnable) () -> refreshTokenRepository.findExpiredIds(NOW, Limit.of(1000)),
+                        List.of("IDX_REFRESH_TOKEN_PURGE")),
+
+                // SnapshotRepository
+                Arguments.of("findByMemberAndYearAndMonth",
+                        (Runnable) () -> snapshotRepository.findByMemberAndYearAndMonth(member(), 2025, 7),
+                        List.of("UK_SNAPSHOT_MEMBER_YEAR_MONTH")),
+                Arguments.of("findByMemberOrderByYearAscMonthAsc",
+                        (Runnable) () -> snapshotRepository.findByMemberOrderByYearAscMonthAsc(member()),
+                        List.of("UK_SNAPSHOT_MEMBER_YEAR_MONTH")),
+
+                // TransactionMonthlySummaryRepository
+                Arguments.of("findByTargetTypeAndTargetIdIn",
+                        (Runnable) () -> summaryRepository.findByTargetTypeAndTargetIdInOrderByTargetIdAscYearAscMonthAsc(
+                                SummaryTarget.ASSET, List.of(1, 2)),
+                        List.of("UK_TX_SUMMARY_TARGET_MONTH"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("자주 쓰는 조회는 의도한 인덱스를 사용한다")
+    void hotQuery_인덱스_사용(String name, Runnable repositoryCall, List<String> expectedIndexes) {
+        ExecutedQuery query = firstSelect(name, repositoryCall);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class, query.parameters().toArray());
+
+        assertThat(plan)
+                .as("%s 실행 계획:%n%s", name, plan)
+                .doesNotContainIgnoringCase("tableScan");
+        for (String expected : expectedIndexes) {
+            List<String> candidates = resolve(expected);
+            assertThat(candidates)
+                    .as("%s 실행 계획에 %s 가 없음:%n%s", name, expected, plan)
+                    .anyMatch(index -> plan.toUpperCase().contains(index));
+        }
+    }
+
+    @Test
+    @DisplayName("엔티티에 선언한 복합 인덱스와 유니크 제약이 스키마에 생성된다")
+    void compositeIndexes_생성() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT UPPER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES", String.class);
+
+        assertThat(indexes).contains(
+                "IDX_TRANSACTION_ASSET_DATE",
+                "IDX_TRANSACTION_DATE_ID",
+                "IDX_ACCOUNT_TRANSACTION_ACCOUNT_DATE",
+                "IDX_ASSET_MEMBER_STATUS",
+                "IDX_ACCOUNT_USER_DELETED",
+                "IDX_REFRESH_TOKEN_VALID",
+                "IDX_REFRESH_TOKEN_PURGE"
+        );
+        // 유니크 제약의 인덱스는 H2 가 "<제약 이름>_INDEX_n" 으로 만든다
+        assertThat(indexes).anyMatch(index -> index.startsWith("UK_SNAPSHOT_MEMBER_YEAR_MONTH"));
+    }
+
+    // 조회 대상 쿼리는 호출 중 처음 실행된 SELECT (이후 SQL 은 연관 엔티티 로딩)
+    private ExecutedQuery firstSelect(String name, Runnable repositoryCall) {
+        RequestMetricsRecorder.Recording recording = RequestMetricsRecorder.start();
+        try {
+            repositoryCall.run();
+        } catch (RuntimeException e) {
+            recording.stop();
+            throw e;
+        }
+        List<ExecutedQuery> queries = recording.stop().queries();
+
+        return queries.stream()
+                .filter(query -> query.sql().replaceAll("(?s)/\\*.*?\\*/", "").trim().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " 호출에서 SELECT 가 실행되지 않음: " + queries));
+    }
+
+    private List<String> resolve(String expected) {
+        List<String> candidates = new ArrayList<>();
+        for (String alternative : expected.split("\\|")) {
+            int paren = alternative.indexOf('(');
+            if (paren < 0) {
+                candidates.add(alternative);
+                continue;
+            }
+            String table = alternative.substring(0, paren);
+            String column = alternative.substring(paren + 1, alternative.length() - 1);
+            candidates.addAll(jdbcTemplate.queryForList(
+                    "SELECT UPPER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                    "WHERE UPPER(TABLE_NAME) = ? AND UPPER(COLUMN_NAME) = ? AND ORDINAL_POSITION = 1",
+                    String.class, table, column));
+        }
+        assertThat(candidates).as("%s 에 해당하는 인덱스가 스키마에 없음", expected).isNotEmpty();
+        return candidates;
+    }
+
+    // 쿼리 파라미터로만 쓰므로 회원을 읽지 않는 참조로 넘긴다 (측정 구간에 회원 조회가 섞이지 않도록)
+    private Member member() {
+        return memberRepository.getReferenceById(MEMBER_ID);
+    }
+}
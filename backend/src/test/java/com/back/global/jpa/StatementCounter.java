@@ -0,0 +1,32 @@
+package com.back.global.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+// Hibernate 통계로 실행된 JDBC 문장 수를 세는 테스트 도우미
+// (application-test.yml 의 hibernate.generate_statistics 필요)
+//
+// 사용: counter.reset() -> 요청 실행 -> counter.count()
+// reset 시 영속성 컨텍스트를 비워 1차 캐시에 남은 엔티티 때문에 쿼리가 덜 세어지지 않게 한다.
+public class StatementCounter {
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void reset() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    // reset 이후 준비(prepare)된 JDBC 문장 수
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+}
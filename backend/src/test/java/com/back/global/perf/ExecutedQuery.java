@@ -0,0 +1,14 @@
+package com.back.global.perf;
+
+import java.util.List;
+
+// 실행된 SQL 한 문장과 바인딩된 파라미터 (setNull 은 SqlParameterValue 로 보관)
+public record ExecutedQuery(
+        String sql,
+        List<Object> parameters
+) {
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
@@ -0,0 +1,32 @@
+package com.back.global.perf;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+// 테스트 전용 자동 설정 - DataSource 를 datasource-proxy 로 감싸 SQL 실행을 기록한다
+// src/test/resources/META-INF/spring/...AutoConfiguration.imports 로 등록되어 모든 테스트 컨텍스트에 같은 구성으로 적용된다.
+// (테스트 클래스마다 설정을 달리하면 컨텍스트가 새로 떠 같은 이름의 H2 메모리 DB 를 다시 초기화하게 됨)
+@AutoConfiguration
+public class QueryMetricsAutoConfiguration {
+
+    @Bean
+    static BeanPostProcessor queryMetricsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryMetricsListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
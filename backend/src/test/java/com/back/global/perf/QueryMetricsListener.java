@@ -0,0 +1,48 @@
+package com.back.global.perf;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// datasource-proxy 리스너 - 실행된 SQL 과 실행 시간을 RequestMetricsRecorder 로 넘김
+class QueryMetricsListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining("; "));
+        RequestMetricsRecorder.record(new ExecutedQuery(sql, parameters(queryInfoList)), execInfo.getElapsedTime());
+    }
+
+    // 첫 문장의 첫 파라미터 세트만 인덱스 순으로 보관 (실행 계획 테스트에서 같은 값으로 EXPLAIN 하기 위함)
+    private static List<Object> parameters(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Object> byIndex = new TreeMap<>();
+        for (ParameterSetOperation operation : queryInfoList.get(0).getParametersList().get(0)) {
+            Object[] args = operation.getArgs();
+            if (!(args[0] instanceof Integer index)) {
+                continue;
+            }
+            byIndex.put(index, "setNull".equals(operation.getMethod().getName())
+                    ? new SqlParameterValue((Integer) args[1], null)
+                    : args[1]);
+        }
+        return new ArrayList<>(byIndex.values());
+    }
+}
@@ -0,0 +1,88 @@
+package com.back.global.perf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// MockMvc 요청의 성능 예산 (SQL 수 / JDBC 시간 / 할당량)
+// 예산을 넘으면 AssertionError 로 테스트가 실패한다.
+//
+// RequestBudget.of("GET /api/v1/transactions/asset/search/bulk")
+//         .maxQueries(2)
+//         .perform(mvc, get("/api/v1/transactions/asset/search/bulk").param("ids", "1,4"))
+//         .andExpect(status().isOk());
+public final class RequestBudget {
+    private static final Logger log = LoggerFactory.getLogger(RequestBudget.class);
+
+    private final String name;
+    private Integer maxQueries;
+    private Duration maxJdbcTime;
+    private Long maxAllocatedBytes;
+
+    private RequestBudget(String name) {
+        this.name = name;
+    }
+
+    public static RequestBudget of(String name) {
+        return new RequestBudget(name);
+    }
+
+    public RequestBudget maxQueries(int maxQueries) {
+        this.maxQueries = maxQueries;
+        return this;
+    }
+
+    // CI 장비 편차가 있으므로 여유 있게 잡아 큰 회귀만 잡는 용도
+    public RequestBudget maxJdbcTime(Duration maxJdbcTime) {
+        this.maxJdbcTime = maxJdbcTime;
+        return this;
+    }
+
+    public RequestBudget maxAllocatedBytes(long maxAllocatedBytes) {
+        this.maxAllocatedBytes = maxAllocatedBytes;
+        return this;
+    }
+
+    public ResultActions perform(MockMvc mvc, RequestBuilder request) throws Exception {
+        RequestMetricsRecorder.Recording recording = RequestMetricsRecorder.start();
+        ResultActions actions;
+        RequestMetrics metrics;
+        try {
+            actions = mvc.perform(request);
+        } finally {
+            metrics = recording.stop();
+        }
+
+        log.info("[budget] {} - {}", name, metrics);
+        verify(metrics);
+        return actions;
+    }
+
+    private void verify(RequestMetrics metrics) {
+        List<String> violations = new ArrayList<>();
+
+        if (maxQueries != null && metrics.queryCount() > maxQueries) {
+            violations.add("SQL %d회 > 예산 %d회".formatted(metrics.queryCount(), maxQueries));
+        }
+        if (maxJdbcTime != null && metrics.jdbcTime().compareTo(maxJdbcTime) > 0) {
+            violations.add("JDBC 시간 %dms > 예산 %dms".formatted(metrics.jdbcTime().toMillis(), maxJdbcTime.toMillis()));
+        }
+        if (maxAllocatedBytes != null && metrics.allocatedBytes() > maxAllocatedBytes) {
+            violations.add("할당 %dKB > 예산 %dKB".formatted(metrics.allocatedBytes() / 1024, maxAllocatedBytes / 1024));
+        }
+
+        if (!violations.isEmpty()) {
+            StringBuilder message = new StringBuilder("[%s] 성능 예산 초과: %s".formatted(name, String.join(", ", violations)));
+            for (int i = 0; i < metrics.queries().size(); i++) {
+                message.append("\n  ").append(i + 1).append(". ").append(metrics.queries().get(i));
+            }
+            throw new AssertionError(message.toString());
+        }
+    }
+}
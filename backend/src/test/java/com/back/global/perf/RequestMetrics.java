@@ -0,0 +1,18 @@
+package com.back.global.perf;
+
+import java.time.Duration;
+import java.util.List;
+
+// 요청 하나(측정 구간)에서 수집한 지표
+public record RequestMetrics(
+        int queryCount,       // 실행된 SQL 문장 수 (배치는 1회로 셈)
+        Duration jdbcTime,    // SQL 실행 시간 합계
+        long allocatedBytes,  // 측정 스레드에서 할당한 힙 바이트
+        List<ExecutedQuery> queries  // 실행된 SQL (예산 초과 시 메시지에 포함)
+) {
+    @Override
+    public String toString() {
+        return "queries=%d, jdbcTime=%dms, allocated=%dKB".formatted(
+                queryCount, jdbcTime.toMillis(), allocatedBytes / 1024);
+    }
+}
@@ -0,0 +1,47 @@
+package com.back.global.perf;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 현재 스레드의 측정 구간 동안 SQL 실행을 기록
+// MockMvc 요청은 테스트 스레드에서 처리되므로 ThreadLocal 로 충분하다.
+public final class RequestMetricsRecorder {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private RequestMetricsRecorder() {
+    }
+
+    public static Recording start() {
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    // QueryMetricsListener 에서 호출 - 측정 중이 아니면 무시
+    static void record(ExecutedQuery query, long elapsedMillis) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.queries.add(query);
+            recording.jdbcMillis += elapsedMillis;
+        }
+    }
+
+    public static final class Recording {
+        private final List<ExecutedQuery> queries = new ArrayList<>();
+        private final long startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        private long jdbcMillis;
+
+        private Recording() {
+        }
+
+        public RequestMetrics stop() {
+            long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            CURRENT.remove();
+            return new RequestMetrics(queries.size(), Duration.ofMillis(jdbcMillis), allocated, List.copyOf(queries));
+        }
+    }
+}
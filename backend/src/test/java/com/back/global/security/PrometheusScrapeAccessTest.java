@@ -0,0 +1,43 @@
+package com.back.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /actuator/prometheus 접근 제어 - 허용 주소를 설정하지 않으면 관리자만 접근 가능
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PrometheusScrapeAccessTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @DisplayName("루프백 주소의 익명 요청도 거부한다 (같은 호스트 프록시 경유 요청과 구분할 수 없음)")
+    void rejectsAnonymousLoopback() throws Exception {
+        mvc.perform(get("/actuator/prometheus").with(request -> {
+                    request.setRemoteAddr("127.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 회원은 접근할 수 없다")
+    void rejectsUser() throws Exception {
+        mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,152 @@
+package com.back.global.security.service;
+
+import com.back.domain.member.dto.MemberUpdateDto;
+import com.back.domain.member.repository.MemberRepository;
+import com.back.domain.member.service.MemberService;
+import com.back.global.security.jwt.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인증 사용자 캐시 - 회원 정보 변경 시 제거, 쓰기 트랜잭션 안에서는 캐시를 거치지 않음
+// 캐시는 트랜잭션 밖에서만 채워지므로 테스트 클래스에 @Transactional 을 두지 않고,
+// 회원 변경은 롤백 전용 트랜잭션에서 실행해 DB 에 남기지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+class PrincipalCacheTest {
+    private static final int MEMBER_ID = 4;
+    private static final String EMAIL = "user1@user.com";
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        principalCache.evict(EMAIL);
+        loads.set(0);
+    }
+
+    @Test
+    @DisplayName("캐시 히트 시 다시 로드하지 않고, 히트/미스 지표가 집계된다")
+    void hitAndMissMetrics() {
+        double hits = gets("hit");
+        double misses = gets("miss");
+
+        load();
+        load();
+        load();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(gets("miss") - misses).isEqualTo(1);
+        assertThat(gets("hit") - hits).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회원 정보 수정 시 캐시에서 제거된다")
+    void evictOnUpdateMember() {
+        assertEvictedBy(service -> service.updateMember(MEMBER_ID, new MemberUpdateDto("캐시유저", "010-1234-5678")));
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 시 캐시에서 제거된다")
+    void evictOnChangePassword() {
+        assertEvictedBy(service -> service.changePassword(MEMBER_ID, "222222", "111111"));
+    }
+
+    @Test
+    @DisplayName("회원 비활성화 시 캐시에서 제거된다")
+    void evictOnDeactivateMember() {
+        assertEvictedBy(service -> service.deactivateMember(MEMBER_ID));
+    }
+
+    @Test
+    @DisplayName("회원 소프트 삭제 시 캐시에서 제거된다")
+    void evictOnSoftDeleteMember() {
+        assertEvictedBy(service -> service.softDeleteMember(MEMBER_ID));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서는 캐시를 거치지 않고, 캐시도 채우지 않는다")
+    void bypassInReadWriteTransaction() {
+        inRollbackTransaction(() -> {
+            load();
+            load();
+        });
+        assertThat(loads.get()).isEqualTo(2);
+
+        load();
+        assertThat(loads.get()).as("트랜잭션 안에서 읽은 값은 캐시에 없어야 한다").isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 안에서는 캐시를 사용한다")
+    void cacheInReadOnlyTransaction() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            load();
+            load();
+        });
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    // 캐시를 채운 뒤 회원 변경을 실행하면 다음 조회가 다시 로드되어야 한다
+    private void assertEvictedBy(Consumer<MemberService> change) {
+        load();
+        load();
+        assertThat(loads.get()).as("변경 전에는 캐시 히트").isEqualTo(1);
+
+        inRollbackTransaction(() -> change.accept(memberService));
+
+        load();
+        assertThat(loads.get()).as("변경 후에는 캐시 미스").isEqualTo(2);
+    }
+
+    private CustomUserDetails load() {
+        return principalCache.get(EMAIL, email -> {
+            loads.incrementAndGet();
+            return new CustomUserDetails(memberRepository.findByEmail(email).orElseThrow());
+        });
+    }
+
+    private void inRollbackTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            action.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "principal")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
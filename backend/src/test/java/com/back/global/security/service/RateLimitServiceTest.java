@@ -0,0 +1,164 @@
+package com.back.global.security.service;
+
+import com.back.global.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitService createService(int capacity, int shards, int maxEntriesPerShard) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setCapacity(capacity);
+        policy.setWindow(Duration.ofMinutes(30));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setShards(shards);
+        properties.setMaxEntriesPerShard(maxEntriesPerShard);
+        properties.setPolicies(Map.of(RateLimitPolicy.LOGIN.getKey(), policy));
+        return new RateLimitService(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("용량만큼 실패하면 차단되고, 엔드포인트별로 따로 집계된다")
+    void blockAfterCapacity() {
+        RateLimitService service = createService(3, 4, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1")).isTrue();
+        }
+
+        assertThat(service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1")).isFalse();
+        assertThat(service.getRetryAfter(RateLimitPolicy.LOGIN, "1.1.1.1")).isPositive();
+        assertThat(service.getRetryAfter(RateLimitPolicy.LOGIN, "2.2.2.2")).isZero();
+        assertThat(service.tryAcquire(RateLimitPolicy.LOGIN, "2.2.2.2")).isTrue();
+        assertThat(service.tryAcquire(RateLimitPolicy.FIND_ACCOUNT, "1.1.1.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 시도해도 가져간 토큰이 유실되지 않는다")
+    void concurrentAttempts() throws Exception {
+        RateLimitService service = createService(1000, 4, 100);
+        int threads = 8;
+        int attemptsPerThread = 100;
+        AtomicInteger acquired = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1")) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(acquired.get()).isEqualTo(threads * attemptsPerThread);
+        // 30분 동안 1000개가 채워지므로 테스트 중 다시 채워지는 양은 1개 미만
+        assertThat(drain(service, "1.1.1.1")).isBetween(200, 201);
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 시도도 용량만큼만 토큰을 얻고, 성공한 시도는 토큰을 돌려받는다")
+    void concurrentTryAcquire() throws Exception {
+        RateLimitService service = createService(5, 4, 100);
+        int threads = 16;
+        int attemptsPerThread = 10;
+        AtomicInteger acquired = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1")) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(acquired.get()).isEqualTo(5);
+        assertThat(service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1")).isFalse();
+
+        // 성공한 시도는 차감되지 않는다
+        assertThat(service.tryAcquire(RateLimitPolicy.LOGIN, "2.2.2.2")).isTrue();
+        service.refund(RateLimitPolicy.LOGIN, "2.2.2.2");
+        assertThat(drain(service, "2.2.2.2")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("토큰을 돌려받아도 용량을 넘지 않는다")
+    void refundCappedAtCapacity() {
+        RateLimitService service = createService(3, 4, 100);
+
+        assertThat(service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1")).isTrue();
+        service.refund(RateLimitPolicy.LOGIN, "1.1.1.1");
+        service.refund(RateLimitPolicy.LOGIN, "1.1.1.1");
+        service.refund(RateLimitPolicy.LOGIN, "1.1.1.1");
+
+        assertThat(drain(service, "1.1.1.1")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("샤드 상한을 넘으면 오래된 버킷을 밀어내 메모리가 제한된다")
+    void hardCap() {
+        RateLimitService service = createService(10, 2, 5);
+
+        for (int i = 0; i < 1000; i++) {
+            service.tryAcquire(RateLimitPolicy.LOGIN, "10.0.0." + i);
+        }
+
+        assertThat(service.size()).isLessThanOrEqualTo(2 * 5);
+    }
+
+    @Test
+    @DisplayName("차단된 요청 수와 보관 중인 버킷 수가 지표로 기록된다")
+    void metrics() {
+        RateLimitService service = createService(1, 4, 100);
+
+        service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1");
+        service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1");
+        service.tryAcquire(RateLimitPolicy.LOGIN, "1.1.1.1");
+        service.tryAcquire(RateLimitPolicy.LOGIN, "2.2.2.2");
+
+        assertThat(meterRegistry.get(RateLimitService.REJECTIONS_METRIC)
+                .tag("policy", RateLimitPolicy.LOGIN.getKey())
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("app.rate_limit.buckets").gauge().value()).isEqualTo(2);
+    }
+
+    // 거부될 때까지 가져간 토큰 수 (= 남아 있던 시도 횟수)
+    private int drain(RateLimitService service, String clientKey) {
+        int acquired = 0;
+        while (service.tryAcquire(RateLimitPolicy.LOGIN, clientKey)) {
+            acquired++;
+        }
+        return acquired;
+    }
+}